@@ -18,6 +18,13 @@ public class BlockedParallelMatrixMultiplier implements MatrixMultiplier {
 
     @Override
     public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        double[][] result = new double[matrixA.length][matrixB[0].length];
+        multiplyInto(matrixA, matrixB, result);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result) {
         int rowsA = matrixA.length;
         int colsA = matrixA[0].length;
         int rowsB = matrixB.length;
@@ -27,11 +34,10 @@ public class BlockedParallelMatrixMultiplier implements MatrixMultiplier {
             throw new IllegalArgumentException("Matrix dimensions incompatible for multiplication");
         }
 
-        double[][] result = new double[rowsA][colsB];
+        MatrixUtils.checkResultBuffer(matrixA, matrixB, result);
         ForkJoinPool pool = new ForkJoinPool(parallelism);
         pool.invoke(new BlockMultiplyTask(matrixA, matrixB, result, 0, rowsA, 0, colsB));
         pool.shutdown();
-        return result;
     }
 
     private class BlockMultiplyTask extends RecursiveAction {
@@ -37,6 +37,13 @@ public class ConcurrentMatrixMultiplier implements MatrixMultiplier {
    */
   @Override
   public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+    double[][] result = new double[matrixA.length][matrixB[0].length];
+    multiplyInto(matrixA, matrixB, result);
+    return result;
+  }
+
+  @Override
+  public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result) {
     int rowsA = matrixA.length;
     int colsA = matrixA[0].length;
     int rowsB = matrixB.length;
@@ -49,8 +56,8 @@ public class ConcurrentMatrixMultiplier implements MatrixMultiplier {
           colsA + " and " + rowsB + "x" + colsB);
     }
 
-    // Initialize result matrix
-    double[][] result = new double[rowsA][colsB];
+    // Check result buffer
+    MatrixUtils.checkResultBuffer(matrixA, matrixB, result);
 
     // Create and start threads
     Thread[] threads = new Thread[numThreads];
@@ -94,8 +101,6 @@ public class ConcurrentMatrixMultiplier implements MatrixMultiplier {
       Thread.currentThread().interrupt();
       throw new RuntimeException("Matrix multiplication interrupted", e);
     }
-
-    return result;
   }
 
   @Override
@@ -0,0 +1,200 @@
+/**
+ * FreivaldsVerifier.java
+ * Probabilistic verification of matrix multiplication results using Freivalds' algorithm
+ */
+package matrixmultiplication;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+public class FreivaldsVerifier {
+
+    public static final int DEFAULT_ROUNDS = 10;
+
+    private final int rounds;
+    private final double tolerance;
+    private final long seed;
+
+    /**
+     * Constructor with specified rounds, tolerance and random seed
+     *
+     * @param rounds Number of random vectors to test (each round is O(n^2))
+     * @param tolerance Maximum allowed element-wise difference, as in MatrixUtils.areMatricesEqual
+     * @param seed Seed for the random test vectors
+     */
+    public FreivaldsVerifier(int rounds, double tolerance, long seed) {
+        if (rounds < 1) {
+            throw new IllegalArgumentException("Number of rounds must be positive: " + rounds);
+        }
+        this.rounds = rounds;
+        this.tolerance = tolerance;
+        this.seed = seed;
+    }
+
+    /**
+     * Constructor with specified rounds and tolerance, using a random seed
+     *
+     * @param rounds Number of random vectors to test
+     * @param tolerance Maximum allowed element-wise difference
+     */
+    public FreivaldsVerifier(int rounds, double tolerance) {
+        this(rounds, tolerance, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Default constructor uses DEFAULT_ROUNDS and the given tolerance
+     *
+     * @param tolerance Maximum allowed element-wise difference
+     */
+    public FreivaldsVerifier(double tolerance) {
+        this(DEFAULT_ROUNDS, tolerance);
+    }
+
+    /**
+     * Verifies that result == matrixA * matrixB by checking A(Br) == Cr for random vectors r.
+     * An entry of the check passes when the difference is within the element-wise tolerance
+     * scaled by the 1-norm of r (the most that entry errors of at most tolerance can move Cr),
+     * plus the rounding error a dense product of this depth may accumulate. Any result within
+     * tolerance of the true product is therefore accepted, but the check is weaker than an
+     * element-wise comparison: a single wrong entry can pass if its error stays below roughly
+     * tolerance * ||r||_1 / |r_j|, i.e. on the order of colsB / 2 times the tolerance.
+     *
+     * @param matrixA First input matrix
+     * @param matrixB Second input matrix
+     * @param result Result matrix to verify
+     * @return true if every round passes, false otherwise
+     * @throws IllegalArgumentException if matrixA and matrixB cannot be multiplied
+     */
+    public boolean verify(double[][] matrixA, double[][] matrixB, double[][] result) {
+        int rowsA = matrixA.length;
+        int colsA = matrixA[0].length;
+        int rowsB = matrixB.length;
+        int colsB = matrixB[0].length;
+
+        if (colsA != rowsB) {
+            throw new IllegalArgumentException(
+                "Matrix dimensions incompatible for multiplication: " +
+                rowsA + "x" + colsA + " and " + rowsB + "x" + colsB
+            );
+        }
+        if (result.length != rowsA || result[0].length != colsB) {
+            return false;
+        }
+
+        // Unit roundoff bound for a dot product of length colsA plus the two matrix-vector passes
+        double rounding = (colsA + 2) * Math.ulp(1.0);
+        SplittableRandom random = new SplittableRandom(seed);
+        double[] r = new double[colsB];
+        double[] br = new double[rowsB];
+        double[] brAbs = new double[rowsB];
+
+        for (int round = 0; round < rounds; round++) {
+            double rNorm = 0;
+            for (int j = 0; j < colsB; j++) {
+                r[j] = random.nextDouble(-1.0, 1.0);
+                rNorm += Math.abs(r[j]);
+            }
+            final double allowed = tolerance * rNorm;
+
+            // Br and |B||r|
+            IntStream.range(0, rowsB).parallel().forEach(k -> {
+                double[] rowB = matrixB[k];
+                double sum = 0;
+                double sumAbs = 0;
+                for (int j = 0; j < colsB; j++) {
+                    double v = rowB[j] * r[j];
+                    sum += v;
+                    sumAbs += Math.abs(v);
+                }
+                br[k] = sum;
+                brAbs[k] = sumAbs;
+            });
+
+            // Compare A(Br) with Cr row by row
+            boolean passed = IntStream.range(0, rowsA).parallel().allMatch(i -> {
+                double[] rowA = matrixA[i];
+                double[] rowC = result[i];
+                double abr = 0;
+                double scale = 0;
+                for (int k = 0; k < colsA; k++) {
+                    abr += rowA[k] * br[k];
+                    scale += Math.abs(rowA[k]) * brAbs[k];
+                }
+                double cr = 0;
+                for (int j = 0; j < colsB; j++) {
+                    double v = rowC[j] * r[j];
+                    cr += v;
+                    scale += Math.abs(v);
+                }
+                return Math.abs(abr - cr) <= allowed + rounding * scale;
+            });
+
+            if (!passed) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Spot-checks a random sample of result entries by computing their dot products directly.
+     * Costs O(samples * n) and catches localized errors with probability proportional to the sample size.
+     *
+     * @param matrixA First input matrix
+     * @param matrixB Second input matrix
+     * @param result Result matrix to verify
+     * @param samples Number of entries to check
+     * @return true if every sampled entry is within tolerance, false otherwise
+     * @throws IllegalArgumentException if matrixA and matrixB cannot be multiplied or samples is not positive
+     */
+    public boolean verifySampledEntries(double[][] matrixA, double[][] matrixB, double[][] result, int samples) {
+        if (samples < 1) {
+            throw new IllegalArgumentException("Number of samples must be positive: " + samples);
+        }
+        int rowsA = matrixA.length;
+        int colsA = matrixA[0].length;
+        int rowsB = matrixB.length;
+        int colsB = matrixB[0].length;
+
+        if (colsA != rowsB) {
+            throw new IllegalArgumentException(
+                "Matrix dimensions incompatible for multiplication: " +
+                rowsA + "x" + colsA + " and " + rowsB + "x" + colsB
+            );
+        }
+        if (result.length != rowsA || result[0].length != colsB) {
+            return false;
+        }
+
+        double rounding = colsA * Math.ulp(1.0);
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] sampleRows = new int[samples];
+        int[] sampleCols = new int[samples];
+        for (int s = 0; s < samples; s++) {
+            sampleRows[s] = random.nextInt(rowsA);
+            sampleCols[s] = random.nextInt(colsB);
+        }
+
+        return IntStream.range(0, samples).parallel().allMatch(s -> {
+            int i = sampleRows[s];
+            int j = sampleCols[s];
+            double sum = 0;
+            double scale = 0;
+            for (int k = 0; k < colsA; k++) {
+                double v = matrixA[i][k] * matrixB[k][j];
+                sum += v;
+                scale += Math.abs(v);
+            }
+            return Math.abs(sum - result[i][j]) <= tolerance + rounding * scale;
+        });
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+}
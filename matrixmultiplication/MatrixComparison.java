@@ -0,0 +1,100 @@
+/**
+ * MatrixComparison.java
+ * Result of an element-wise matrix comparison: largest absolute and relative errors and their locations
+ */
+package matrixmultiplication;
+
+public class MatrixComparison {
+
+    private double maxAbsError;
+    private int maxAbsRow = -1;
+    private int maxAbsCol = -1;
+    private double maxRelError;
+    private int maxRelRow = -1;
+    private int maxRelCol = -1;
+
+    MatrixComparison() {
+    }
+
+    /**
+     * Records one pair of elements; relative error is taken against the larger magnitude of the two
+     */
+    void accumulate(int row, int col, double expected, double actual) {
+        double absError = Math.abs(expected - actual);
+        if (Double.isNaN(absError)) {
+            absError = Double.POSITIVE_INFINITY;
+        }
+        double magnitude = Math.max(Math.abs(expected), Math.abs(actual));
+        double relError = absError == 0 ? 0 : absError / magnitude;
+        if (Double.isNaN(relError)) {
+            relError = Double.POSITIVE_INFINITY;
+        }
+
+        if (absError > maxAbsError) {
+            maxAbsError = absError;
+            maxAbsRow = row;
+            maxAbsCol = col;
+        }
+        if (relError > maxRelError) {
+            maxRelError = relError;
+            maxRelRow = row;
+            maxRelCol = col;
+        }
+    }
+
+    /**
+     * Combines two partial comparisons without modifying either; ties keep this comparison's location
+     */
+    MatrixComparison merge(MatrixComparison other) {
+        MatrixComparison merged = new MatrixComparison();
+        MatrixComparison abs = other.maxAbsError > maxAbsError ? other : this;
+        MatrixComparison rel = other.maxRelError > maxRelError ? other : this;
+        merged.maxAbsError = abs.maxAbsError;
+        merged.maxAbsRow = abs.maxAbsRow;
+        merged.maxAbsCol = abs.maxAbsCol;
+        merged.maxRelError = rel.maxRelError;
+        merged.maxRelRow = rel.maxRelRow;
+        merged.maxRelCol = rel.maxRelCol;
+        return merged;
+    }
+
+    /**
+     * Checks whether every element pair differs by at most the given absolute tolerance
+     *
+     * @param tolerance Maximum allowed absolute difference
+     * @return true if the maximum absolute error is within tolerance
+     */
+    public boolean isWithin(double tolerance) {
+        return maxAbsError <= tolerance;
+    }
+
+    public double getMaxAbsError() {
+        return maxAbsError;
+    }
+
+    public int getMaxAbsRow() {
+        return maxAbsRow;
+    }
+
+    public int getMaxAbsCol() {
+        return maxAbsCol;
+    }
+
+    public double getMaxRelError() {
+        return maxRelError;
+    }
+
+    public int getMaxRelRow() {
+        return maxRelRow;
+    }
+
+    public int getMaxRelCol() {
+        return maxRelCol;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Max abs error: %.3e at [%d,%d] | Max rel error: %.3e at [%d,%d]",
+                maxAbsError, maxAbsRow, maxAbsCol, maxRelError, maxRelRow, maxRelCol);
+    }
+}
@@ -13,28 +13,40 @@ public class MatrixMultiplicationBenchmark {
     private static final int[] THREAD_COUNTS = {4, 8, 16};
     private static final double TOLERANCE = 1e-6;
     private static final boolean OUTPUT_CSV = true; // Set true to write CSV
+    private static final int VERIFY_ROUNDS = 10; // Freivalds rounds per result, O(n^2) each
+    private static final int SEQUENTIAL_MAX_SIZE = 2000; // Skip the O(n^3) sequential run above this size
+    private static final long SEED = 42L; // Fixed seed so runs use identical inputs
+    // Probabilistic and looser than an element-wise check: an isolated error passes below ~size / 2 * TOLERANCE
+    private static final FreivaldsVerifier VERIFIER = new FreivaldsVerifier(VERIFY_ROUNDS, TOLERANCE, SEED);
 
     public static void main(String[] args) throws IOException {
+        // Scaling/roofline mode: MatrixMultiplicationBenchmark --scaling [ScalingBenchmark options]
+        if (args.length > 0 && args[0].equals("--scaling")) {
+            ScalingBenchmark.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
         List<String[]> results = new ArrayList<>();
         results.add(new String[]{"Implementation", "MatrixSize", "Threads", "Time(ms)", "FLOPS", "Memory(MB)", "PeakMem(MB)", "GC(ms)", "CPU(%)", "Correct"});
 
-        System.out.println("Java: " + System.getProperty("java.version") + ", Cores: " + Runtime.getRuntime().availableProcessors());
+        System.out.println("Java: " + System.getProperty("java.version") + ", Cores: " + Runtime.getRuntime().availableProcessors() + ", Seed: " + SEED);
         System.out.println("==== Matrix Multiplication Benchmark ====");
 
         for (int size : SIZES) {
             System.out.println("\n===== Matrix Size: " + size + " x " + size + " =====");
-            double[][] matrixA = MatrixUtils.generateRandomMatrix(size, size);
-            double[][] matrixB = MatrixUtils.generateRandomMatrix(size, size);
-
-            // Warmup run for JVM optimization
-            new SequentialMatrixMultiplier().multiply(matrixA, matrixB);
-
-            // Sequential baseline
-            MatrixMultiplier sequential = new SequentialMatrixMultiplier();
-            BenchmarkResult seqResult = runAndMeasure(sequential, matrixA, matrixB, -1, null, size);
-            results.add(seqResult.toRow(size));
-            System.out.println(seqResult);
-            double[][] baseline = seqResult.result;
+            double[][] matrixA = MatrixUtils.generateRandomMatrix(size, size, SEED);
+            double[][] matrixB = MatrixUtils.generateRandomMatrix(size, size, SEED + 1);
+
+            if (size <= SEQUENTIAL_MAX_SIZE) {
+                // Warmup run for JVM optimization
+                new SequentialMatrixMultiplier().multiply(matrixA, matrixB);
+
+                // Sequential baseline
+                MatrixMultiplier sequential = new SequentialMatrixMultiplier();
+                BenchmarkResult seqResult = runAndMeasure(sequential, matrixA, matrixB, -1, true, size);
+                results.add(seqResult.toRow(size));
+                System.out.println(seqResult);
+            }
 
             for (int threads : THREAD_COUNTS) {
                 // Warmup run for each implementation
@@ -42,36 +54,45 @@ public class MatrixMultiplicationBenchmark {
                 new ThreadPoolMatrixMultiplier(threads).multiply(matrixA, matrixB);
                 new ForkJoinMatrixMultiplier(threads).multiply(matrixA, matrixB);
                 new BlockedParallelMatrixMultiplier(threads, 64).multiply(matrixA, matrixB);
+                new TileSchedulerMatrixMultiplier(threads, 64).multiply(matrixA, matrixB);
 
                 // Concurrent
                 MatrixMultiplier concurrent = new ConcurrentMatrixMultiplier(threads);
-                BenchmarkResult concResult = runAndMeasure(concurrent, matrixA, matrixB, threads, baseline, size);
+                BenchmarkResult concResult = runAndMeasure(concurrent, matrixA, matrixB, threads, true, size);
                 results.add(concResult.toRow(size));
                 System.out.println(concResult);
 
                 // ThreadPool
                 MatrixMultiplier threadPool = new ThreadPoolMatrixMultiplier(threads);
-                BenchmarkResult tpResult = runAndMeasure(threadPool, matrixA, matrixB, threads, baseline, size);
+                BenchmarkResult tpResult = runAndMeasure(threadPool, matrixA, matrixB, threads, true, size);
                 results.add(tpResult.toRow(size));
                 System.out.println(tpResult);
 
                 // ForkJoin
                 MatrixMultiplier forkJoin = new ForkJoinMatrixMultiplier(threads);
-                BenchmarkResult fjResult = runAndMeasure(forkJoin, matrixA, matrixB, threads, baseline, size);
+                BenchmarkResult fjResult = runAndMeasure(forkJoin, matrixA, matrixB, threads, true, size);
                 results.add(fjResult.toRow(size));
                 System.out.println(fjResult);
 
                 // BlockedParallel
                 MatrixMultiplier blocked = new BlockedParallelMatrixMultiplier(threads, 64);
-                BenchmarkResult bpResult = runAndMeasure(blocked, matrixA, matrixB, threads, baseline, size);
+                BenchmarkResult bpResult = runAndMeasure(blocked, matrixA, matrixB, threads, true, size);
                 results.add(bpResult.toRow(size));
                 System.out.println(bpResult);
+
+                // TileScheduler
+                TileSchedulerMatrixMultiplier tiled = new TileSchedulerMatrixMultiplier(threads, 64);
+                BenchmarkResult tsResult = runAndMeasure(tiled, matrixA, matrixB, threads, true, size);
+                results.add(tsResult.toRow(size));
+                System.out.println(tsResult);
+                System.out.printf("  Tiles per worker: %s (imbalance %.2f)%n",
+                        Arrays.toString(tiled.getLastTileCounts()), tiled.getLastImbalance());
             }
 
             // ParallelStream (uses common pool, so no thread count param)
             new ParallelStreamMatrixMultiplier().multiply(matrixA, matrixB); // Warmup
             MatrixMultiplier parallelStream = new ParallelStreamMatrixMultiplier();
-            BenchmarkResult psResult = runAndMeasure(parallelStream, matrixA, matrixB, -1, baseline, size);
+            BenchmarkResult psResult = runAndMeasure(parallelStream, matrixA, matrixB, -1, true, size);
             results.add(psResult.toRow(size));
             System.out.println(psResult);
         }
@@ -95,14 +116,14 @@ public class MatrixMultiplicationBenchmark {
     }
 
     private static BenchmarkResult runAndMeasure(MatrixMultiplier multiplier, double[][] A, double[][] B, int threads) {
-        return runAndMeasure(multiplier, A, B, threads, null, A.length);
+        return runAndMeasure(multiplier, A, B, threads, false, A.length);
     }
 
-    private static BenchmarkResult runAndMeasure(MatrixMultiplier multiplier, double[][] A, double[][] B, int threads, double[][] baseline) {
-        return runAndMeasure(multiplier, A, B, threads, baseline, A.length);
+    private static BenchmarkResult runAndMeasure(MatrixMultiplier multiplier, double[][] A, double[][] B, int threads, boolean verify) {
+        return runAndMeasure(multiplier, A, B, threads, verify, A.length);
     }
 
-    private static BenchmarkResult runAndMeasure(MatrixMultiplier multiplier, double[][] A, double[][] B, int threads, double[][] baseline, int size) {
+    private static BenchmarkResult runAndMeasure(MatrixMultiplier multiplier, double[][] A, double[][] B, int threads, boolean verify, int size) {
         System.gc();
         // GC time before
         List<GarbageCollectorMXBean> gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
@@ -133,8 +154,8 @@ public class MatrixMultiplicationBenchmark {
         // FLOPS calculation
         double flops = 2.0 * size * size * size / (timeMs / 1000.0);
         boolean correct = true;
-        if (baseline != null) {
-            correct = MatrixUtils.areMatricesEqual(baseline, result, TOLERANCE);
+        if (verify) {
+            correct = VERIFIER.verify(A, B, result);
         }
         return new BenchmarkResult(multiplier.getName(), threads, timeMs, flops, memMB, peakMemMB, gcMs, cpuPercent, correct, result);
     }
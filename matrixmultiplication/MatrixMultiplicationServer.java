@@ -0,0 +1,591 @@
+/**
+ * MatrixMultiplicationServer.java
+ * Local HTTP service that multiplies binary matrix payloads with request coalescing and admission control
+ */
+package matrixmultiplication;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.*;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class MatrixMultiplicationServer {
+
+    // Requests at or below this many FLOPs are coalesced into batches
+    public static final long SMALL_REQUEST_FLOPS = 2L * 128 * 128 * 128;
+    private static final int MAX_BATCH_SIZE = 64;
+    private static final long COALESCE_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int LATENCY_WINDOW = 1024;
+    private static final long MAX_MATRIX_ELEMENTS = 1L << 27; // 1 GB of doubles per operand or result
+    private static final long MAX_DRAIN_BYTES = 64L << 20; // Rejected bodies up to this size are read and discarded
+
+    private final MatrixMultiplier engine;
+    private final MatrixMultiplier smallEngine = new SequentialMatrixMultiplier();
+    private final int maxAdmittedRequests;
+    private final long maxAdmittedFlops;
+    private final long maxAdmittedBytes;
+    // Bounded by the admission counters, not by capacity
+    private final BlockingQueue<Job> queue = new LinkedBlockingQueue<>();
+    private final Stats stats = new Stats();
+
+    // Reservations for requests being read, queued or running; guarded by this
+    private int admittedRequests;
+    private long admittedFlops;
+    private long admittedBytes;
+
+    private HttpServer server;
+    private ExecutorService handlers;
+    private Thread dispatcher;
+    private volatile boolean running;
+
+    /**
+     * Constructor with specified engine and admission limits
+     *
+     * @param port Port to listen on (0 picks a free port, see getPort)
+     * @param engine Engine used for requests too large to coalesce
+     * @param maxAdmittedRequests Maximum number of requests admitted but not yet completed
+     * @param maxAdmittedFlops Maximum estimated FLOPs admitted but not yet completed
+     * @param maxAdmittedBytes Maximum bytes of operands and results admitted but not yet completed
+     */
+    public MatrixMultiplicationServer(int port, MatrixMultiplier engine, int maxAdmittedRequests,
+            long maxAdmittedFlops, long maxAdmittedBytes) throws IOException {
+        if (maxAdmittedRequests < 1 || maxAdmittedFlops < 1 || maxAdmittedBytes < 1) {
+            throw new IllegalArgumentException("Admission limits must be positive: " + maxAdmittedRequests +
+                ", " + maxAdmittedFlops + ", " + maxAdmittedBytes);
+        }
+        this.engine = engine;
+        this.maxAdmittedRequests = maxAdmittedRequests;
+        this.maxAdmittedFlops = maxAdmittedFlops;
+        this.maxAdmittedBytes = maxAdmittedBytes;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+    }
+
+    /**
+     * Constructor using the tile scheduler on all cores, 256 admitted requests, 2 TFLOP of admitted work
+     * and half of the maximum heap for admitted operands and results
+     *
+     * @param port Port to listen on (0 picks a free port)
+     */
+    public MatrixMultiplicationServer(int port) throws IOException {
+        this(port, new TileSchedulerMatrixMultiplier(), 256, 2_000_000_000_000L,
+                Runtime.getRuntime().maxMemory() / 2);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        MatrixMultiplicationServer server = new MatrixMultiplicationServer(port);
+        server.start();
+        System.out.println("Matrix multiplication server listening on http://localhost:" + server.getPort());
+        System.out.println("POST /multiply with both matrix headers then both payloads, GET /stats for throughput and latency");
+    }
+
+    public void start() {
+        running = true;
+        // One handler per admitted request plus headroom to answer rejections and stats promptly
+        handlers = Executors.newFixedThreadPool(
+                maxAdmittedRequests + Runtime.getRuntime().availableProcessors());
+        server.setExecutor(handlers);
+        server.createContext("/multiply", this::handleMultiply);
+        server.createContext("/stats", this::handleStats);
+        dispatcher = new Thread(this::dispatch, "matrix-dispatcher");
+        dispatcher.start();
+        server.start();
+    }
+
+    public void stop() {
+        running = false;
+        server.stop(0);
+        dispatcher.interrupt();
+        try {
+            dispatcher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Job job;
+        while ((job = queue.poll()) != null) {
+            fail(job, new IllegalStateException("Server stopped"));
+        }
+        handlers.shutdown();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns current statistics as a JSON object
+     *
+     * @return Throughput, latency percentiles, batching and admission counters
+     */
+    public String getStatsJson() {
+        int requests;
+        long flops;
+        long bytes;
+        synchronized (this) {
+            requests = admittedRequests;
+            flops = admittedFlops;
+            bytes = admittedBytes;
+        }
+        return stats.toJson(requests, flops, bytes);
+    }
+
+    /**
+     * Request body: int rowsA, int colsA, int rowsB, int colsB, then the elements of A and of B in
+     * row-major order (big-endian). The headers alone decide admission, so an oversized or unaffordable
+     * request is rejected before its payload is read into memory.
+     */
+    private void handleMultiply(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                sendText(exchange, 405, "Use POST");
+                return;
+            }
+
+            DataInputStream in = new DataInputStream(new BufferedInputStream(exchange.getRequestBody()));
+            int rowsA;
+            int colsA;
+            int rowsB;
+            int colsB;
+            try {
+                rowsA = in.readInt();
+                colsA = in.readInt();
+                rowsB = in.readInt();
+                colsB = in.readInt();
+            } catch (IOException e) {
+                sendText(exchange, 400, "Malformed matrix header: " + e.getMessage());
+                return;
+            }
+            if (rowsA < 1 || colsA < 1 || rowsB < 1 || colsB < 1) {
+                reject(exchange, in, 400, "Matrix dimensions must be positive: " +
+                        rowsA + "x" + colsA + " and " + rowsB + "x" + colsB);
+                return;
+            }
+            if (colsA != rowsB) {
+                reject(exchange, in, 400, "Matrix dimensions incompatible for multiplication: " +
+                        rowsA + "x" + colsA + " and " + rowsB + "x" + colsB);
+                return;
+            }
+
+            long elementsA = (long) rowsA * colsA;
+            long elementsB = (long) rowsB * colsB;
+            long elementsC = (long) rowsA * colsB;
+            if (Math.max(elementsA, Math.max(elementsB, elementsC)) > MAX_MATRIX_ELEMENTS) {
+                stats.recordRejection();
+                reject(exchange, in, 413, "Operands and result are limited to " + MAX_MATRIX_ELEMENTS + " elements");
+                return;
+            }
+            long flops = 2L * rowsA * colsA * colsB;
+            long bytes = Double.BYTES * (elementsA + elementsB + elementsC);
+            if (flops > maxAdmittedFlops || bytes > maxAdmittedBytes) {
+                stats.recordRejection();
+                reject(exchange, in, 413, "Request exceeds admission limit of " + maxAdmittedFlops +
+                        " FLOPs or " + maxAdmittedBytes + " bytes");
+                return;
+            }
+            if (!reserve(flops, bytes)) {
+                stats.recordRejection();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                reject(exchange, in, 503, "Server busy, retry later");
+                return;
+            }
+
+            Job job = null;
+            try {
+                double[][] matrixA = readMatrixData(in, rowsA, colsA);
+                double[][] matrixB = readMatrixData(in, rowsB, colsB);
+                job = new Job(matrixA, matrixB, flops, bytes);
+            } catch (IOException e) {
+                sendText(exchange, 400, "Malformed matrix payload: " + e.getMessage());
+                return;
+            } finally {
+                if (job == null) {
+                    release(flops, bytes);
+                }
+            }
+            queue.add(job);
+            // stop() clears running before draining the queue, so a job added after the drain is caught here
+            if (!running && queue.remove(job)) {
+                fail(job, new IllegalStateException("Server stopped"));
+            }
+
+            double[][] result;
+            try {
+                result = job.future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                sendText(exchange, 503, "Interrupted");
+                return;
+            } catch (ExecutionException e) {
+                sendText(exchange, 500, "Multiplication failed: " + e.getCause().getMessage());
+                return;
+            }
+
+            // The length is known up front, so the result streams out without a second in-memory copy
+            long length = 2 * Integer.BYTES + (long) Double.BYTES * result.length * result[0].length;
+            exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+            exchange.sendResponseHeaders(200, length);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(exchange.getResponseBody()))) {
+                writeMatrix(out, result);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try {
+            byte[] body = getStatsJson().getBytes("UTF-8");
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Answers a request refused after its headers. The payload is read and discarded first (up to
+     * MAX_DRAIN_BYTES, never stored) because clients that write the whole body before reading, such
+     * as HttpURLConnection, otherwise see a broken connection instead of the status.
+     */
+    private static void reject(HttpExchange exchange, InputStream in, int status, String message) throws IOException {
+        String length = exchange.getRequestHeaders().getFirst("Content-Length");
+        try {
+            if (length != null && Long.parseLong(length) <= MAX_DRAIN_BYTES) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Still send the status; the client may only see the connection drop
+        }
+        sendText(exchange, status, message);
+    }
+
+    private static void sendText(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = message.getBytes("UTF-8");
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Reserves one request slot, its FLOPs and its bytes if all three fit in the remaining budget;
+     * the reservation lasts until the job completes or fails
+     */
+    private synchronized boolean reserve(long flops, long bytes) {
+        if (admittedRequests >= maxAdmittedRequests ||
+                admittedFlops + flops > maxAdmittedFlops || admittedBytes + bytes > maxAdmittedBytes) {
+            return false;
+        }
+        admittedRequests++;
+        admittedFlops += flops;
+        admittedBytes += bytes;
+        return true;
+    }
+
+    private synchronized void release(long flops, long bytes) {
+        admittedRequests--;
+        admittedFlops -= flops;
+        admittedBytes -= bytes;
+    }
+
+    /**
+     * Single dispatcher thread, so at most one execution uses the cores at a time. Large jobs run
+     * alone on the engine; small jobs arriving within the coalescing window run as one batch.
+     * Failures, including Errors such as OutOfMemoryError, fail only the affected jobs.
+     */
+    private void dispatch() {
+        Job deferred = null;
+        List<Job> batch = new ArrayList<>();
+        try {
+            while (running) {
+                try {
+                    batch.clear();
+                    Job first = deferred != null ? deferred : queue.poll(100, TimeUnit.MILLISECONDS);
+                    deferred = null;
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    if (first.flops > SMALL_REQUEST_FLOPS) {
+                        execute(first, engine);
+                        stats.recordBatch(1);
+                        continue;
+                    }
+
+                    long deadline = System.nanoTime() + COALESCE_WINDOW_NANOS;
+                    while (batch.size() < MAX_BATCH_SIZE) {
+                        Job next = queue.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        if (next.flops > SMALL_REQUEST_FLOPS) {
+                            deferred = next;
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                    // Each small product runs sequentially; the batch as a whole is spread over the cores
+                    batch.parallelStream().forEach(job -> execute(job, smallEngine));
+                    stats.recordBatch(batch.size());
+                } catch (InterruptedException e) {
+                    // Stopping: jobs collected into an unfinished batch would otherwise never complete
+                    for (Job job : batch) {
+                        fail(job, new IllegalStateException("Server stopped"));
+                    }
+                    break;
+                } catch (Throwable t) {
+                    // Fail whatever this iteration had not finished and keep serving
+                    for (Job job : batch) {
+                        fail(job, t);
+                    }
+                }
+            }
+        } finally {
+            // stop() can clear running while a large job is held back; never leave it pending
+            if (deferred != null) {
+                fail(deferred, new IllegalStateException("Server stopped"));
+            }
+        }
+    }
+
+    private void execute(Job job, MatrixMultiplier multiplier) {
+        double[][] result;
+        try {
+            result = multiplier.multiply(job.matrixA, job.matrixB);
+        } catch (Throwable t) {
+            fail(job, t);
+            return;
+        }
+        // Release before completing so the reservation is gone by the time the client sees the result
+        release(job);
+        stats.recordCompletion(System.nanoTime() - job.admittedAt, job.flops);
+        job.future.complete(result);
+    }
+
+    /**
+     * Returns a job's reservation and completes it exceptionally (a no-op if it already completed)
+     */
+    private void fail(Job job, Throwable cause) {
+        release(job);
+        job.future.completeExceptionally(cause);
+    }
+
+    private void release(Job job) {
+        if (job.released.compareAndSet(false, true)) {
+            release(job.flops, job.bytes);
+        }
+    }
+
+    /**
+     * Reads a matrix as int rows, int cols, then rows * cols doubles in row-major order (big-endian)
+     *
+     * @param in Stream positioned at the start of a matrix
+     * @return The matrix
+     * @throws IOException if the stream ends early
+     * @throws IllegalArgumentException if the dimensions are not positive or too large
+     */
+    public static double[][] readMatrix(DataInputStream in) throws IOException {
+        int rows = in.readInt();
+        int cols = in.readInt();
+        if (rows < 1 || cols < 1 || (long) rows * cols > MAX_MATRIX_ELEMENTS) {
+            throw new IllegalArgumentException("Matrix dimensions out of range: " + rows + "x" + cols);
+        }
+        return readMatrixData(in, rows, cols);
+    }
+
+    private static double[][] readMatrixData(DataInputStream in, int rows, int cols) throws IOException {
+        double[][] matrix = new double[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                matrix[i][j] = in.readDouble();
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Writes a matrix in the format read by readMatrix
+     *
+     * @param out Destination stream; flushed after writing
+     * @param matrix Matrix to write
+     */
+    public static void writeMatrix(DataOutputStream out, double[][] matrix) throws IOException {
+        out.writeInt(matrix.length);
+        out.writeInt(matrix[0].length);
+        for (double[] row : matrix) {
+            for (double value : row) {
+                out.writeDouble(value);
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes a multiply request body: both headers first, then the elements of A and of B
+     *
+     * @param out Destination stream; flushed after writing
+     * @param matrixA First matrix
+     * @param matrixB Second matrix
+     */
+    public static void writeRequest(DataOutputStream out, double[][] matrixA, double[][] matrixB) throws IOException {
+        out.writeInt(matrixA.length);
+        out.writeInt(matrixA[0].length);
+        out.writeInt(matrixB.length);
+        out.writeInt(matrixB[0].length);
+        for (double[][] matrix : new double[][][] {matrixA, matrixB}) {
+            for (double[] row : matrix) {
+                for (double value : row) {
+                    out.writeDouble(value);
+                }
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Client helper: sends A and B to a running server and returns the product. The body is streamed
+     * with a fixed length, so it is not buffered in memory and a refused POST is never retried silently.
+     *
+     * @param baseUrl Server address, e.g. http://localhost:8080
+     * @param matrixA First matrix
+     * @param matrixB Second matrix
+     * @return Result of multiplication
+     * @throws StatusException on a non-200 response, including 413 and 503 back-pressure
+     * @throws IOException on connection failure
+     */
+    public static double[][] multiplyRemote(String baseUrl, double[][] matrixA, double[][] matrixB) throws IOException {
+        long elementsA = (long) matrixA.length * matrixA[0].length;
+        long elementsB = (long) matrixB.length * matrixB[0].length;
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + "/multiply").openConnection();
+        try {
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.setFixedLengthStreamingMode(4 * Integer.BYTES + Double.BYTES * (elementsA + elementsB));
+            connection.setRequestProperty("Content-Type", "application/octet-stream");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()))) {
+                writeRequest(out, matrixA, matrixB);
+            } catch (IOException e) {
+                // Only a rejected body above MAX_DRAIN_BYTES is cut off; HttpURLConnection then hides the status
+                throw new IOException("Server closed the connection before reading the request body " +
+                        "(rejected requests above " + MAX_DRAIN_BYTES + " bytes are not drained)", e);
+            }
+            int status = connection.getResponseCode();
+            if (status != 200) {
+                throw new StatusException(status, connection.getResponseMessage(),
+                        connection.getHeaderField("Retry-After"));
+            }
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream()))) {
+                return readMatrix(in);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Non-200 answer from the server, carrying the status and any Retry-After hint
+     */
+    public static class StatusException extends IOException {
+
+        private final int status;
+        private final String retryAfter;
+
+        StatusException(int status, String message, String retryAfter) {
+            super("Server returned " + status + ": " + message +
+                  (retryAfter != null ? " (retry after " + retryAfter + " s)" : ""));
+            this.status = status;
+            this.retryAfter = retryAfter;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        /**
+         * Returns the Retry-After header value in seconds, or null if the server sent none
+         */
+        public String getRetryAfter() {
+            return retryAfter;
+        }
+    }
+
+    private static class Job {
+        final double[][] matrixA;
+        final double[][] matrixB;
+        final long flops;
+        final long bytes;
+        final long admittedAt = System.nanoTime();
+        final CompletableFuture<double[][]> future = new CompletableFuture<>();
+        final AtomicBoolean released = new AtomicBoolean();
+
+        Job(double[][] matrixA, double[][] matrixB, long flops, long bytes) {
+            this.matrixA = matrixA;
+            this.matrixB = matrixB;
+            this.flops = flops;
+            this.bytes = bytes;
+        }
+    }
+
+    private static class Stats {
+        private final long startedAt = System.nanoTime();
+        private final long[] latencies = new long[LATENCY_WINDOW];
+        private long completed;
+        private long rejected;
+        private long batches;
+        private long batchedRequests;
+        private long totalFlops;
+
+        synchronized void recordCompletion(long latencyNanos, long flops) {
+            latencies[(int) (completed % LATENCY_WINDOW)] = latencyNanos;
+            completed++;
+            totalFlops += flops;
+        }
+
+        synchronized void recordRejection() {
+            rejected++;
+        }
+
+        synchronized void recordBatch(int size) {
+            batches++;
+            batchedRequests += size;
+        }
+
+        synchronized String toJson(int admittedRequests, long admittedFlops, long admittedBytes) {
+            double uptime = (System.nanoTime() - startedAt) / 1e9;
+            int samples = (int) Math.min(completed, LATENCY_WINDOW);
+            long[] sorted = Arrays.copyOf(latencies, samples);
+            Arrays.sort(sorted);
+            return String.format(Locale.ROOT,
+                    "{\"uptimeSeconds\": %.3f, \"completed\": %d, \"rejected\": %d, \"batches\": %d, " +
+                    "\"averageBatchSize\": %.3f, \"requestsPerSecond\": %.3f, \"gflopsPerSecond\": %.3f, " +
+                    "\"latencyP50Ms\": %.3f, \"latencyP95Ms\": %.3f, \"latencyP99Ms\": %.3f, " +
+                    "\"admittedRequests\": %d, \"admittedFlops\": %d, \"admittedBytes\": %d}",
+                    uptime, completed, rejected, batches,
+                    batches == 0 ? 0.0 : (double) batchedRequests / batches,
+                    completed / uptime, totalFlops / uptime / 1e9,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    admittedRequests, admittedFlops, admittedBytes);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -1,5 +1,22 @@
 package matrixmultiplication;
 
+import com.sun.management.ThreadMXBean;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
 public class MatrixMultiplicationTest {
 
     public static void main(String[] args) {
@@ -79,10 +96,333 @@ public class MatrixMultiplicationTest {
                 boolean correctBP = MatrixUtils.areMatricesEqual(resultSeq, resultBP, tolerance);
                 System.out.printf("Results Match (%s): %s%n", blockedParallel.getName(), correctBP ? "YES" : "NO");
 
+                // TileScheduler (dynamic Morton-ordered tiles)
+                TileSchedulerMatrixMultiplier tileScheduler = new TileSchedulerMatrixMultiplier(threadCount, 64);
+                long startTS = System.nanoTime();
+                double[][] resultTS = tileScheduler.multiply(matrixA, matrixB);
+                long endTS = System.nanoTime();
+                double timeTS = (endTS - startTS) / 1e6;
+                System.out.printf("%s Time: %.2f ms%n", tileScheduler.getName(), timeTS);
+
+                boolean correctTS = MatrixUtils.areMatricesEqual(resultSeq, resultTS, tolerance);
+                System.out.printf("Results Match (%s): %s (tile imbalance %.2f)%n", tileScheduler.getName(), correctTS ? "YES" : "NO", tileScheduler.getLastImbalance());
+
                 System.out.println();
             }
 
             System.out.println();
         }
+
+        // A worker failure (here a short row of B) must surface instead of leaving zeroed tiles
+        System.out.println("===== Tile Scheduler Failure Propagation =====");
+        double[][] raggedA = MatrixUtils.generateRandomMatrix(300, 300, 8);
+        double[][] raggedB = MatrixUtils.generateRandomMatrix(300, 300, 9);
+        raggedB[250] = new double[10];
+        boolean propagated;
+        try {
+            new TileSchedulerMatrixMultiplier(4, 64).multiply(raggedA, raggedB);
+            propagated = false;
+        } catch (RuntimeException e) {
+            propagated = e.getCause() instanceof ArrayIndexOutOfBoundsException;
+        }
+        System.out.printf("TileScheduler rethrows worker failure: %s%n", propagated ? "YES" : "NO");
+
+        // Seeded generation is reproducible; comparison locates the worst entry
+        System.out.println("===== Seeded Generation and Comparison =====");
+        double[][] seededA = MatrixUtils.generateRandomMatrix(500, 300, 7, MatrixUtils.Distribution.NORMAL);
+        double[][] seededB = MatrixUtils.generateRandomMatrix(500, 300, 7, MatrixUtils.Distribution.NORMAL);
+        System.out.printf("Same seed gives identical matrices: %s%n", Arrays.deepEquals(seededA, seededB) ? "YES" : "NO");
+        seededB[123][45] += 0.5;
+        MatrixComparison comparison = MatrixUtils.compareMatrices(seededA, seededB);
+        boolean locatedAbs = comparison.getMaxAbsRow() == 123 && comparison.getMaxAbsCol() == 45;
+        System.out.printf("Corrupted entry located at [123,45]: %s (%s)%n", locatedAbs ? "YES" : "NO", comparison);
+        seededB[200][100] = Double.NaN;
+        comparison = MatrixUtils.compareMatrices(seededA, seededB);
+        boolean locatedNaN = comparison.getMaxRelRow() == 200 && comparison.getMaxRelCol() == 100
+                && comparison.getMaxAbsRow() == 200 && comparison.getMaxAbsCol() == 100;
+        System.out.printf("NaN entry located at [200,100]: %s (%s)%n", locatedNaN ? "YES" : "NO", comparison);
+
+        // Freivalds verification: a correct product passes, a single corrupted entry is rejected
+        System.out.println("===== Freivalds Verification =====");
+        double[][] verifyA = MatrixUtils.generateRandomMatrix(300, 200, 11);
+        double[][] verifyB = MatrixUtils.generateRandomMatrix(200, 250, 12);
+        double[][] verifyC = new SequentialMatrixMultiplier().multiply(verifyA, verifyB);
+        FreivaldsVerifier verifier = new FreivaldsVerifier(FreivaldsVerifier.DEFAULT_ROUNDS, tolerance, 13);
+        boolean acceptsCorrect = verifier.verify(verifyA, verifyB, verifyC);
+        // Every entry just inside the element-wise tolerance must still pass
+        double[][] verifyShifted = new double[verifyC.length][];
+        for (int i = 0; i < verifyC.length; i++) {
+            verifyShifted[i] = verifyC[i].clone();
+            for (int j = 0; j < verifyShifted[i].length; j++) {
+                verifyShifted[i][j] += 0.9 * tolerance;
+            }
+        }
+        boolean acceptsShifted = verifier.verify(verifyA, verifyB, verifyShifted);
+        verifyC[17][33] += 1e-3;
+        boolean rejectsCorrupted = !verifier.verify(verifyA, verifyB, verifyC);
+        System.out.printf("Freivalds accepts correct product: %s, accepts product within tolerance: %s, " +
+                "rejects corrupted product: %s%n",
+                acceptsCorrect ? "YES" : "NO", acceptsShifted ? "YES" : "NO", rejectsCorrupted ? "YES" : "NO");
+
+        // Structure-aware dispatch: diagonal, banded, block-diagonal and scattered-block operands
+        int structuredSize = 1000;
+        System.out.println("===== Structured Matrices: " + structuredSize + " x " + structuredSize + " =====");
+        double[][] dense = MatrixUtils.generateRandomMatrix(structuredSize, structuredSize, 1);
+        double[][] blockDiagonal = MatrixUtils.generateRandomMatrix(structuredSize, structuredSize, 2);
+        for (int i = 0; i < structuredSize; i++) {
+            for (int j = 0; j < structuredSize; j++) {
+                if (i / 100 != j / 100) {
+                    blockDiagonal[i][j] = 0;
+                }
+            }
+        }
+        // A few 64x64 blocks far from the diagonal, so the band is too wide and only block-sparse applies
+        double[][] scatteredBlocks = new double[structuredSize][structuredSize];
+        double[][] blockValues = MatrixUtils.generateRandomMatrix(structuredSize, structuredSize, 6);
+        int[][] blockCorners = {{0, 896}, {320, 64}, {576, 960}, {896, 128}};
+        for (int[] corner : blockCorners) {
+            for (int i = corner[0]; i < Math.min(structuredSize, corner[0] + 64); i++) {
+                for (int j = corner[1]; j < Math.min(structuredSize, corner[1] + 64); j++) {
+                    scatteredBlocks[i][j] = blockValues[i][j];
+                }
+            }
+        }
+        double[][][] operands = {
+            MatrixUtils.generateBandedMatrix(structuredSize, structuredSize, 0, 3),
+            MatrixUtils.generateBandedMatrix(structuredSize, structuredSize, 8, 4),
+            blockDiagonal,
+            scatteredBlocks
+        };
+        // 100-wide diagonal blocks fit in a band of 199 diagonals, which is cheaper than block-sparse
+        String[] expectedRoutes = {"diagonal-left", "banded", "banded", "block-sparse"};
+        StructuredMatrixMultiplier structured = new StructuredMatrixMultiplier();
+        for (int o = 0; o < operands.length; o++) {
+            double[][] operand = operands[o];
+            double[][] expected = new SequentialMatrixMultiplier().multiply(operand, dense);
+            long startST = System.nanoTime();
+            double[][] resultST = structured.multiply(operand, dense);
+            long endST = System.nanoTime();
+            double timeST = (endST - startST) / 1e6;
+            boolean correctST = MatrixUtils.areMatricesEqual(expected, resultST, tolerance);
+            boolean routeST = expectedRoutes[o].equals(structured.getLastRoute());
+            System.out.printf("%s [%s] Time: %.2f ms, Results Match: %s, Expected Route: %s%n",
+                    structured.getName(), structured.getLastRoute(), timeST, correctST ? "YES" : "NO", routeST ? "YES" : "NO");
+        }
+
+        // Explicit tag: force the block-diagonal operand through the block-sparse kernel
+        double[][] expectedTagged = new SequentialMatrixMultiplier().multiply(blockDiagonal, dense);
+        double[][] resultTagged = structured.multiply(blockDiagonal, MatrixStructure.blockSparse(100),
+                                                      dense, MatrixStructure.dense());
+        boolean correctTagged = MatrixUtils.areMatricesEqual(expectedTagged, resultTagged, tolerance);
+        System.out.printf("%s [%s, tagged] Results Match: %s%n",
+                structured.getName(), structured.getLastRoute(), correctTagged ? "YES" : "NO");
+
+        // A non-finite entry must give the dense engine's IEEE result (0 * Inf = NaN), not skip the zeros;
+        // compared bit for bit because areMatricesEqual cannot see NaN
+        double[][] denseWithInfinity = new double[structuredSize][];
+        for (int i = 0; i < structuredSize; i++) {
+            denseWithInfinity[i] = dense[i].clone();
+        }
+        denseWithInfinity[3][7] = Double.POSITIVE_INFINITY;
+        double[][] expectedNonFinite = new TileSchedulerMatrixMultiplier().multiply(operands[0], denseWithInfinity);
+        double[][] resultNonFinite = structured.multiply(operands[0], denseWithInfinity);
+        boolean correctNonFinite = Arrays.deepEquals(expectedNonFinite, resultNonFinite) &&
+                Double.isNaN(resultNonFinite[0][7]);
+        System.out.printf("%s [%s, non-finite] Results Match: %s%n",
+                structured.getName(), structured.getLastRoute(), correctNonFinite ? "YES" : "NO");
+
+        // Local service: concurrent small requests are coalesced, a larger one runs alone
+        System.out.println("===== Matrix Multiplication Server (localhost) =====");
+        try {
+            MatrixMultiplicationServer server = new MatrixMultiplicationServer(0);
+            server.start();
+            String url = "http://localhost:" + server.getPort();
+            boolean correctSrv = IntStream.range(0, 32).parallel().allMatch(r -> {
+                int n = r == 0 ? 300 : 32 + r;
+                double[][] a = MatrixUtils.generateRandomMatrix(n, n, r);
+                double[][] b = MatrixUtils.generateRandomMatrix(n, n, r + 100);
+                try {
+                    double[][] remote = MatrixMultiplicationServer.multiplyRemote(url, a, b);
+                    return MatrixUtils.areMatricesEqual(new SequentialMatrixMultiplier().multiply(a, b), remote, tolerance);
+                } catch (IOException e) {
+                    System.out.println("Request failed: " + e.getMessage());
+                    return false;
+                }
+            });
+            System.out.printf("Server Results Match: %s%n", correctSrv ? "YES" : "NO");
+            System.out.println("Server Stats: " + server.getStatsJson());
+            server.stop();
+        } catch (IOException e) {
+            System.out.println("Server test failed: " + e.getMessage());
+        }
+
+        // Small limits: a gated large job holds the dispatcher while a burst of small requests arrives,
+        // so all but the admission limit are refused with 503, the admitted ones are coalesced into one
+        // batch once the gate opens, and a request over the FLOP budget gets 413
+        System.out.println("===== Server Admission and Coalescing =====");
+        int maxAdmitted = 4;
+        int burstSize = 32;
+        CountDownLatch gate = new CountDownLatch(1);
+        MatrixMultiplier gatedEngine = new MatrixMultiplier() {
+            @Override
+            public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Gated multiplication interrupted", e);
+                }
+                return new SequentialMatrixMultiplier().multiply(matrixA, matrixB);
+            }
+
+            @Override
+            public String getName() {
+                return "Gated Sequential";
+            }
+        };
+        ExecutorService clients = Executors.newFixedThreadPool(burstSize + 1);
+        try {
+            MatrixMultiplicationServer limited = new MatrixMultiplicationServer(
+                    0, gatedEngine, maxAdmitted, 2L * 300 * 300 * 300, 64L << 20);
+            limited.start();
+            String limitedUrl = "http://localhost:" + limited.getPort();
+
+            int oversizedStatus = 200;
+            double[][] oversized = MatrixUtils.generateRandomMatrix(400, 400, 20);
+            try {
+                MatrixMultiplicationServer.multiplyRemote(limitedUrl, oversized, oversized);
+            } catch (MatrixMultiplicationServer.StatusException e) {
+                oversizedStatus = e.getStatus();
+            }
+
+            double[][] large = MatrixUtils.generateRandomMatrix(200, 200, 21);
+            Future<Integer> largeRequest = clients.submit(() -> remoteStatus(limitedUrl, large, large, tolerance));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (jsonNumber(limited.getStatsJson(), "admittedRequests") < 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            List<Future<Integer>> burst = new ArrayList<>();
+            for (int r = 0; r < burstSize; r++) {
+                double[][] a = MatrixUtils.generateRandomMatrix(16, 16, 200 + r);
+                double[][] b = MatrixUtils.generateRandomMatrix(16, 16, 300 + r);
+                burst.add(clients.submit(() -> remoteStatus(limitedUrl, a, b, tolerance)));
+            }
+            // The oversized request and everything beyond the admission limit are refused while the gate is closed
+            while (jsonNumber(limited.getStatsJson(), "rejected") < 1 + burstSize - (maxAdmitted - 1) &&
+                    System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            gate.countDown();
+
+            int served = 0;
+            int busy = 0;
+            boolean correctBurst = largeRequest.get() == 200;
+            for (Future<Integer> status : burst) {
+                if (status.get() == 200) {
+                    served++;
+                } else if (status.get() == 503) {
+                    busy++;
+                } else {
+                    correctBurst = false;
+                }
+            }
+            String limitedStats = limited.getStatsJson();
+            limited.stop();
+
+            boolean released = jsonNumber(limitedStats, "admittedRequests") == 0 &&
+                    jsonNumber(limitedStats, "admittedFlops") == 0 && jsonNumber(limitedStats, "admittedBytes") == 0;
+            System.out.printf("Oversized request rejected with 413: %s%n", oversizedStatus == 413 ? "YES" : "NO");
+            System.out.printf("Burst: %d served, %d refused with 503, Back-pressure: %s, Results Match: %s%n",
+                    served, busy, served == maxAdmitted - 1 && busy == burstSize - served ? "YES" : "NO",
+                    correctBurst ? "YES" : "NO");
+            System.out.printf("Average batch size %.2f, Coalesced: %s%n",
+                    jsonNumber(limitedStats, "averageBatchSize"),
+                    jsonNumber(limitedStats, "averageBatchSize") > 1 ? "YES" : "NO");
+            System.out.printf("Admitted counters back to zero: %s%n", released ? "YES" : "NO");
+        } catch (IOException | InterruptedException | ExecutionException e) {
+            System.out.println("Server admission test failed: " + e);
+        } finally {
+            gate.countDown();
+            clients.shutdown();
+        }
+
+        // Matrix power: exponentiation by squaring against repeated multiplication
+        System.out.println("===== Matrix Power =====");
+        double[][] base = MatrixUtils.generateRandomMatrix(200, 200, 5);
+        for (double[] row : base) {
+            double rowSum = Arrays.stream(row).sum();
+            for (int j = 0; j < row.length; j++) {
+                row[j] /= rowSum; // Row-stochastic, so powers stay bounded
+            }
+        }
+        double[][] expectedPower = base;
+        for (int step = 1; step < 25; step++) {
+            expectedPower = new SequentialMatrixMultiplier().multiply(expectedPower, base);
+        }
+        MatrixPower matrixPower = new MatrixPower();
+        double[][] resultPower = matrixPower.power(base, 25);
+        boolean correctPower = MatrixUtils.areMatricesEqual(expectedPower, resultPower, tolerance);
+        System.out.printf("MatrixPower A^25 in %d products, Results Match: %s%n",
+                matrixPower.getLastSteps(), correctPower ? "YES" : "NO");
+
+        // Early stop: powers of a mixing chain settle, so a huge exponent needs only a few squarings
+        double[][] fullPower = matrixPower.power(base, 1_000_000);
+        int fullSteps = matrixPower.getLastSteps();
+        double[][] stablePower = matrixPower.power(base, 1_000_000, 1e-14);
+        boolean correctStable = matrixPower.hasLastConverged() &&
+                matrixPower.getLastSteps() < fullSteps &&
+                MatrixUtils.areMatricesEqual(fullPower, stablePower, tolerance) &&
+                MatrixUtils.areMatricesEqual(stablePower,
+                        new SequentialMatrixMultiplier().multiply(stablePower, base), tolerance);
+        System.out.printf("MatrixPower A^1000000 stopped after %d of %d products, Results Match: %s%n",
+                matrixPower.getLastSteps(), fullSteps, correctStable ? "YES" : "NO");
+
+        // Iterating x = A^T x from the uniform vector reaches the stationary distribution, a row of A^inf
+        double[][] transposed = new double[base.length][base.length];
+        for (int i = 0; i < base.length; i++) {
+            for (int j = 0; j < base.length; j++) {
+                transposed[j][i] = base[i][j];
+            }
+        }
+        double[] uniform = new double[base.length];
+        Arrays.fill(uniform, 1.0 / base.length);
+        double[] stationary = matrixPower.iterate(transposed, uniform, 1000, 1e-15);
+        boolean correctIterate = matrixPower.hasLastConverged() &&
+                MatrixUtils.areMatricesEqual(new double[][] {stablePower[0]}, new double[][] {stationary}, tolerance);
+        System.out.printf("MatrixPower iterate converged in %d products, Results Match: %s%n",
+                matrixPower.getLastSteps(), correctIterate ? "YES" : "NO");
+
+        // Steady state allocates nothing per step: a long run costs the same as a short one
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        MatrixPower pooledPower = new MatrixPower(new TileSchedulerMatrixMultiplier(4, 64));
+        pooledPower.iterate(transposed, uniform, 100, -1);
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        pooledPower.iterate(transposed, uniform, 10, -1);
+        long allocatedShort = threadBean.getThreadAllocatedBytes(threadId);
+        pooledPower.iterate(transposed, uniform, 1010, -1);
+        long allocatedLong = threadBean.getThreadAllocatedBytes(threadId);
+        double bytesPerStep = ((allocatedLong - allocatedShort) - (allocatedShort - allocatedBefore)) / 1000.0;
+        System.out.printf("MatrixPower iterate allocates %.1f bytes per step, Allocation-free: %s%n",
+                bytesPerStep, bytesPerStep < 16 ? "YES" : "NO");
+    }
+
+    /**
+     * Sends one request and returns the HTTP status; a 200 whose product is wrong counts as 500
+     */
+    private static int remoteStatus(String url, double[][] a, double[][] b, double tolerance) throws IOException {
+        try {
+            double[][] remote = MatrixMultiplicationServer.multiplyRemote(url, a, b);
+            return MatrixUtils.areMatricesEqual(new SequentialMatrixMultiplier().multiply(a, b), remote, tolerance)
+                    ? 200 : 500;
+        } catch (MatrixMultiplicationServer.StatusException e) {
+            return e.getStatus();
+        }
+    }
+
+    private static double jsonNumber(String json, String key) {
+        Matcher matcher = Pattern.compile("\"" + key + "\": ([0-9.]+)").matcher(json);
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) : Double.NaN;
     }
 }
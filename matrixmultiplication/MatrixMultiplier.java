@@ -15,6 +15,23 @@ public interface MatrixMultiplier {
      */
     double[][] multiply(double[][] matrixA, double[][] matrixB);
     
+    /**
+     * Multiplies two matrices into a caller-supplied result matrix, so repeated products can
+     * reuse buffers. The default copies the output of multiply; implementations that can write
+     * in place override it. The result must not be the same array as either input.
+     * 
+     * @param matrixA First matrix
+     * @param matrixB Second matrix
+     * @param result Matrix of size rows(A) x cols(B) that receives the product
+     */
+    default void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result) {
+        MatrixUtils.checkResultBuffer(matrixA, matrixB, result);
+        double[][] product = multiply(matrixA, matrixB);
+        for (int i = 0; i < product.length; i++) {
+            System.arraycopy(product[i], 0, result[i], 0, product[i].length);
+        }
+    }
+    
     /**
      * Returns a descriptive name for the implementation
      * 
@@ -0,0 +1,206 @@
+/**
+ * MatrixPower.java
+ * Matrix powers and repeated products on any MatrixMultiplier, reusing a fixed set of buffers
+ */
+package matrixmultiplication;
+
+public class MatrixPower {
+
+    private MatrixMultiplier engine;
+    private volatile int lastSteps;
+    private volatile boolean lastConverged;
+
+    /**
+     * Constructor with the engine used for every product
+     *
+     * @param engine Multiplication engine; the tile scheduler reuses its workers and tile order, so
+     *               steps allocate nothing, while pool-per-call engines still allocate inside multiplyInto
+     */
+    public MatrixPower(MatrixMultiplier engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Default constructor uses the tile scheduler on all cores
+     */
+    public MatrixPower() {
+        this(new TileSchedulerMatrixMultiplier());
+    }
+
+    /**
+     * Computes A^n by exponentiation by squaring in O(log n) products
+     *
+     * @param matrix Square matrix A
+     * @param exponent Non-negative exponent n
+     * @return A^n (the identity for n = 0)
+     * @throws IllegalArgumentException if the matrix is not square or the exponent is negative
+     */
+    public double[][] power(double[][] matrix, int exponent) {
+        return power(matrix, exponent, -1);
+    }
+
+    /**
+     * Computes A^n by exponentiation by squaring, stopping early once squaring no longer changes
+     * the running square (A^(2^k) == A^(2^(k+1)) within tolerance), as for a Markov chain reaching
+     * its stationary distribution. Three n x n buffers are allocated once and swapped between steps.
+     *
+     * @param matrix Square matrix A
+     * @param exponent Non-negative exponent n
+     * @param tolerance Maximum element change treated as converged; negative disables early termination
+     * @return A^n (the identity for n = 0)
+     * @throws IllegalArgumentException if the matrix is not square or the exponent is negative
+     */
+    public double[][] power(double[][] matrix, int exponent, double tolerance) {
+        int n = matrix.length;
+        if (n != matrix[0].length) {
+            throw new IllegalArgumentException("Matrix must be square: " + n + "x" + matrix[0].length);
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("Exponent must be non-negative: " + exponent);
+        }
+
+        double[][] base = copy(matrix);
+        double[][] result = null; // Stays null until the first set bit, avoiding a multiply by identity
+        double[][] scratch = new double[n][n];
+        int steps = 0;
+        boolean converged = false;
+        int remaining = exponent;
+
+        while (remaining > 0) {
+            if ((remaining & 1) != 0) {
+                if (result == null) {
+                    result = copy(base);
+                } else {
+                    engine.multiplyInto(result, base, scratch);
+                    double[][] swap = result;
+                    result = scratch;
+                    scratch = swap;
+                    steps++;
+                }
+            }
+            remaining >>= 1;
+            if (remaining == 0) {
+                break;
+            }
+
+            engine.multiplyInto(base, base, scratch);
+            steps++;
+            boolean stable = tolerance >= 0 && maxAbsDifference(base, scratch) <= tolerance;
+            double[][] swap = base;
+            base = scratch;
+            scratch = swap;
+
+            if (stable) {
+                // Every further square equals base, so one more product finishes the power
+                if (result == null) {
+                    result = base;
+                } else {
+                    engine.multiplyInto(result, base, scratch);
+                    result = scratch;
+                    steps++;
+                }
+                converged = true;
+                break;
+            }
+        }
+
+        lastSteps = steps;
+        lastConverged = converged;
+        return result == null ? identity(n) : result;
+    }
+
+    /**
+     * Iterates x = A * x with two ping-ponged vector buffers
+     *
+     * @param matrix Square matrix A
+     * @param vector Starting vector x (not modified)
+     * @param maxSteps Maximum number of products
+     * @param tolerance Stop once no element of x changes by more than this; negative disables early termination
+     * @return x after the last step
+     * @throws IllegalArgumentException if the matrix is not square or does not match the vector length
+     */
+    public double[] iterate(double[][] matrix, double[] vector, int maxSteps, double tolerance) {
+        int n = matrix.length;
+        if (n != matrix[0].length || n != vector.length) {
+            throw new IllegalArgumentException(
+                "Matrix must be square and match the vector: " + n + "x" + matrix[0].length +
+                " and " + vector.length);
+        }
+
+        // Column vectors as n x 1 matrices so any engine can run the product
+        double[][] current = new double[n][1];
+        double[][] next = new double[n][1];
+        for (int i = 0; i < n; i++) {
+            current[i][0] = vector[i];
+        }
+
+        int steps = 0;
+        boolean converged = false;
+        while (steps < maxSteps) {
+            engine.multiplyInto(matrix, current, next);
+            steps++;
+            boolean stable = tolerance >= 0 && maxAbsDifference(current, next) <= tolerance;
+            double[][] swap = current;
+            current = next;
+            next = swap;
+            if (stable) {
+                converged = true;
+                break;
+            }
+        }
+
+        lastSteps = steps;
+        lastConverged = converged;
+        double[] result = new double[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = current[i][0];
+        }
+        return result;
+    }
+
+    private static double maxAbsDifference(double[][] matrixA, double[][] matrixB) {
+        double max = 0;
+        for (int i = 0; i < matrixA.length; i++) {
+            double[] rowA = matrixA[i];
+            double[] rowB = matrixB[i];
+            for (int j = 0; j < rowA.length; j++) {
+                max = Math.max(max, Math.abs(rowA[j] - rowB[j]));
+            }
+        }
+        return max;
+    }
+
+    private static double[][] copy(double[][] matrix) {
+        double[][] copy = new double[matrix.length][];
+        for (int i = 0; i < matrix.length; i++) {
+            copy[i] = matrix[i].clone();
+        }
+        return copy;
+    }
+
+    private static double[][] identity(int n) {
+        double[][] identity = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            identity[i][i] = 1.0;
+        }
+        return identity;
+    }
+
+    /**
+     * Returns the number of matrix products performed by the most recent call
+     *
+     * @return Product count
+     */
+    public int getLastSteps() {
+        return lastSteps;
+    }
+
+    /**
+     * Returns whether the most recent call stopped early on convergence
+     *
+     * @return true if the tolerance was met before the work ran out
+     */
+    public boolean hasLastConverged() {
+        return lastConverged;
+    }
+}
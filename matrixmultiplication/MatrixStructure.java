@@ -0,0 +1,185 @@
+/**
+ * MatrixStructure.java
+ * Describes the sparsity structure of a matrix, either tagged explicitly or detected from its values
+ */
+package matrixmultiplication;
+
+import java.util.stream.IntStream;
+
+public class MatrixStructure {
+
+    /**
+     * Structure categories with dedicated multiplication kernels
+     */
+    public enum Type {
+        DENSE,
+        DIAGONAL,
+        BANDED,
+        BLOCK_SPARSE
+    }
+
+    // Treat a matrix as banded when the band covers at most 1/BANDED_MAX_FRACTION of its columns
+    private static final int BANDED_MAX_FRACTION = 4;
+    // Treat a matrix as block-sparse when at most this fraction of its blocks hold non-zeros
+    private static final double BLOCK_SPARSE_MAX_OCCUPANCY = 0.5;
+
+    private final Type type;
+    private final int lowerBandwidth;
+    private final int upperBandwidth;
+    private final int blockSize;
+    private final boolean finite;
+
+    private MatrixStructure(Type type, int lowerBandwidth, int upperBandwidth, int blockSize, boolean finite) {
+        this.type = type;
+        this.lowerBandwidth = lowerBandwidth;
+        this.upperBandwidth = upperBandwidth;
+        this.blockSize = blockSize;
+        this.finite = finite;
+    }
+
+    private MatrixStructure(Type type, int lowerBandwidth, int upperBandwidth, int blockSize) {
+        this(type, lowerBandwidth, upperBandwidth, blockSize, true);
+    }
+
+    public static MatrixStructure dense() {
+        return new MatrixStructure(Type.DENSE, -1, -1, 0);
+    }
+
+    public static MatrixStructure diagonal() {
+        return new MatrixStructure(Type.DIAGONAL, 0, 0, 0);
+    }
+
+    /**
+     * Tags a banded matrix: entry [i][j] may be non-zero only when i - lower <= j <= i + upper
+     *
+     * @param lowerBandwidth Number of non-zero diagonals below the main diagonal
+     * @param upperBandwidth Number of non-zero diagonals above the main diagonal
+     * @return Banded structure tag
+     */
+    public static MatrixStructure banded(int lowerBandwidth, int upperBandwidth) {
+        if (lowerBandwidth < 0 || upperBandwidth < 0) {
+            throw new IllegalArgumentException(
+                "Bandwidths must be non-negative: " + lowerBandwidth + ", " + upperBandwidth);
+        }
+        return new MatrixStructure(Type.BANDED, lowerBandwidth, upperBandwidth, 0);
+    }
+
+    /**
+     * Tags a block-sparse matrix; which blocks are zero is determined when multiplying
+     *
+     * @param blockSize Edge length of the square blocks
+     * @return Block-sparse structure tag
+     */
+    public static MatrixStructure blockSparse(int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        return new MatrixStructure(Type.BLOCK_SPARSE, -1, -1, blockSize);
+    }
+
+    /**
+     * Detects the structure of a matrix in one parallel O(n^2) pass.
+     * Diagonal is preferred over banded, banded over block-sparse, and dense is the fallback.
+     * The same pass records whether any entry is NaN or infinite (see isFinite).
+     *
+     * @param matrix Matrix to inspect
+     * @param blockSize Block edge length used for the block-sparse check
+     * @return Detected structure
+     */
+    public static MatrixStructure detect(double[][] matrix, int blockSize) {
+        int rows = matrix.length;
+        int cols = matrix[0].length;
+        int rowBlocks = (rows + blockSize - 1) / blockSize;
+        int colBlocks = (cols + blockSize - 1) / blockSize;
+
+        // Each row block owns its slot in every array, so the parallel pass needs no locking
+        int[] lower = new int[rowBlocks];
+        int[] upper = new int[rowBlocks];
+        int[] occupied = new int[rowBlocks];
+        boolean[] nonFinite = new boolean[rowBlocks];
+
+        IntStream.range(0, rowBlocks).parallel().forEach(rb -> {
+            boolean[] blockHasValues = new boolean[colBlocks];
+            int endRow = Math.min(rows, (rb + 1) * blockSize);
+            for (int i = rb * blockSize; i < endRow; i++) {
+                double[] row = matrix[i];
+                for (int j = 0; j < cols; j++) {
+                    if (row[j] != 0) {
+                        lower[rb] = Math.max(lower[rb], i - j);
+                        upper[rb] = Math.max(upper[rb], j - i);
+                        blockHasValues[j / blockSize] = true;
+                        if (!Double.isFinite(row[j])) {
+                            nonFinite[rb] = true;
+                        }
+                    }
+                }
+            }
+            for (boolean hasValues : blockHasValues) {
+                if (hasValues) {
+                    occupied[rb]++;
+                }
+            }
+        });
+
+        int lowerBandwidth = 0;
+        int upperBandwidth = 0;
+        long occupiedBlocks = 0;
+        boolean finite = true;
+        for (int rb = 0; rb < rowBlocks; rb++) {
+            lowerBandwidth = Math.max(lowerBandwidth, lower[rb]);
+            upperBandwidth = Math.max(upperBandwidth, upper[rb]);
+            occupiedBlocks += occupied[rb];
+            finite &= !nonFinite[rb];
+        }
+
+        if (lowerBandwidth == 0 && upperBandwidth == 0) {
+            return new MatrixStructure(Type.DIAGONAL, 0, 0, 0, finite);
+        }
+        if ((long) (lowerBandwidth + upperBandwidth + 1) * BANDED_MAX_FRACTION <= cols) {
+            return new MatrixStructure(Type.BANDED, lowerBandwidth, upperBandwidth, 0, finite);
+        }
+        if (occupiedBlocks <= BLOCK_SPARSE_MAX_OCCUPANCY * rowBlocks * colBlocks) {
+            return new MatrixStructure(Type.BLOCK_SPARSE, -1, -1, blockSize, finite);
+        }
+        return new MatrixStructure(Type.DENSE, -1, -1, 0, finite);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getLowerBandwidth() {
+        return lowerBandwidth;
+    }
+
+    public int getUpperBandwidth() {
+        return upperBandwidth;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Returns whether every entry is finite; tags created by the factories are assumed finite
+     *
+     * @return false if detection saw a NaN or infinite entry
+     */
+    public boolean isFinite() {
+        return finite;
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+            case BANDED:
+                return "Banded (lower=" + lowerBandwidth + " upper=" + upperBandwidth + ")";
+            case BLOCK_SPARSE:
+                return "BlockSparse (blockSize=" + blockSize + ")";
+            case DIAGONAL:
+                return "Diagonal";
+            default:
+                return "Dense";
+        }
+    }
+}
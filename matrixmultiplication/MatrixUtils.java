@@ -4,10 +4,38 @@
  */
 package matrixmultiplication;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
 
 public class MatrixUtils {
     
+    /**
+     * Value distributions supported by the seeded matrix generators
+     */
+    public enum Distribution {
+        /** Uniform values between 0 and 10 */
+        UNIFORM,
+        /** Standard normal values (mean 0, standard deviation 1) */
+        NORMAL,
+        /** Uniform values with only DEFAULT_SPARSE_DENSITY of entries non-zero */
+        SPARSE,
+        /** Uniform values within DEFAULT_BANDWIDTH of the diagonal, zero elsewhere */
+        BANDED
+    }
+    
+    public static final double DEFAULT_SPARSE_DENSITY = 0.1;
+    public static final int DEFAULT_BANDWIDTH = 8;
+    
+    // Rows per independently seeded block; fixed so results do not depend on thread count
+    private static final int GENERATION_ROW_BLOCK = 64;
+    
+    /**
+     * Fills a single row of a generated matrix from its block's random stream
+     */
+    private interface RowFiller {
+        void fill(int row, double[] values, SplittableRandom random);
+    }
+    
     /**
      * Generates a random matrix with the specified dimensions
      * 
@@ -16,14 +44,116 @@ public class MatrixUtils {
      * @return A matrix filled with random values between 0 and 10
      */
     public static double[][] generateRandomMatrix(int rows, int cols) {
+        return generateRandomMatrix(rows, cols, new SplittableRandom().nextLong());
+    }
+    
+    /**
+     * Generates a reproducible random matrix; the same seed always yields the same matrix
+     * 
+     * @param rows Number of rows
+     * @param cols Number of columns
+     * @param seed Random seed
+     * @return A matrix filled with random values between 0 and 10
+     */
+    public static double[][] generateRandomMatrix(int rows, int cols, long seed) {
+        return generateRandomMatrix(rows, cols, seed, Distribution.UNIFORM);
+    }
+    
+    /**
+     * Generates a reproducible random matrix with the given value distribution
+     * 
+     * @param rows Number of rows
+     * @param cols Number of columns
+     * @param seed Random seed
+     * @param distribution Distribution of the generated values
+     * @return The generated matrix
+     */
+    public static double[][] generateRandomMatrix(int rows, int cols, long seed, Distribution distribution) {
+        switch (distribution) {
+            case NORMAL:
+                return generate(rows, cols, seed, (i, values, random) -> {
+                    for (int j = 0; j < values.length; j++) {
+                        values[j] = random.nextGaussian();
+                    }
+                });
+            case SPARSE:
+                return generateSparseMatrix(rows, cols, DEFAULT_SPARSE_DENSITY, seed);
+            case BANDED:
+                return generateBandedMatrix(rows, cols, DEFAULT_BANDWIDTH, seed);
+            case UNIFORM:
+            default:
+                return generate(rows, cols, seed, (i, values, random) -> {
+                    for (int j = 0; j < values.length; j++) {
+                        values[j] = random.nextDouble() * 10;
+                    }
+                });
+        }
+    }
+    
+    /**
+     * Generates a reproducible random sparse matrix
+     * 
+     * @param rows Number of rows
+     * @param cols Number of columns
+     * @param density Probability that an entry is non-zero (0 to 1)
+     * @param seed Random seed
+     * @return A matrix whose non-zero entries are random values between 0 and 10
+     */
+    public static double[][] generateSparseMatrix(int rows, int cols, double density, long seed) {
+        if (density < 0 || density > 1) {
+            throw new IllegalArgumentException("Density must be between 0 and 1: " + density);
+        }
+        return generate(rows, cols, seed, (i, values, random) -> {
+            for (int j = 0; j < values.length; j++) {
+                if (random.nextDouble() < density) {
+                    values[j] = random.nextDouble() * 10;
+                }
+            }
+        });
+    }
+    
+    /**
+     * Generates a reproducible random banded matrix
+     * 
+     * @param rows Number of rows
+     * @param cols Number of columns
+     * @param bandwidth Entries with |i - j| <= bandwidth are non-zero
+     * @param seed Random seed
+     * @return A matrix whose in-band entries are random values between 0 and 10
+     */
+    public static double[][] generateBandedMatrix(int rows, int cols, int bandwidth, long seed) {
+        if (bandwidth < 0) {
+            throw new IllegalArgumentException("Bandwidth must be non-negative: " + bandwidth);
+        }
+        return generate(rows, cols, seed, (i, values, random) -> {
+            int from = Math.max(0, i - bandwidth);
+            int to = Math.min(values.length - 1, i + bandwidth);
+            for (int j = from; j <= to; j++) {
+                values[j] = random.nextDouble() * 10;
+            }
+        });
+    }
+    
+    /**
+     * Fills a matrix in parallel, one split random stream per fixed-size row block.
+     * Streams are split sequentially from the seed, so output is independent of scheduling.
+     */
+    private static double[][] generate(int rows, int cols, long seed, RowFiller filler) {
         double[][] matrix = new double[rows][cols];
-        Random random = new Random();
+        int blocks = (rows + GENERATION_ROW_BLOCK - 1) / GENERATION_ROW_BLOCK;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] blockRandoms = new SplittableRandom[blocks];
+        for (int b = 0; b < blocks; b++) {
+            blockRandoms[b] = root.split();
+        }
         
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                matrix[i][j] = random.nextDouble() * 10;
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            SplittableRandom random = blockRandoms[b];
+            int endRow = Math.min(rows, (b + 1) * GENERATION_ROW_BLOCK);
+            for (int i = b * GENERATION_ROW_BLOCK; i < endRow; i++) {
+                filler.fill(i, matrix[i], random);
             }
-        }
+        });
         
         return matrix;
     }
@@ -41,15 +171,67 @@ public class MatrixUtils {
             return false;
         }
         
-        for (int i = 0; i < matrixA.length; i++) {
-            for (int j = 0; j < matrixA[0].length; j++) {
-                if (Math.abs(matrixA[i][j] - matrixB[i][j]) > tolerance) {
+        int cols = matrixA[0].length;
+        return IntStream.range(0, matrixA.length).parallel().allMatch(i -> {
+            double[] rowA = matrixA[i];
+            double[] rowB = matrixB[i];
+            for (int j = 0; j < cols; j++) {
+                if (Math.abs(rowA[j] - rowB[j]) > tolerance) {
                     return false;
                 }
             }
+            return true;
+        });
+    }
+    
+    /**
+     * Compares two matrices element by element in parallel and reports the largest errors
+     * 
+     * @param expected Reference matrix
+     * @param actual Matrix to compare against the reference
+     * @return Maximum absolute and relative errors and where they occur
+     * @throws IllegalArgumentException if the matrices have different dimensions
+     */
+    public static MatrixComparison compareMatrices(double[][] expected, double[][] actual) {
+        if (expected.length != actual.length || expected[0].length != actual[0].length) {
+            throw new IllegalArgumentException(
+                "Matrix dimensions differ: " + expected.length + "x" + expected[0].length +
+                " and " + actual.length + "x" + actual[0].length
+            );
         }
         
-        return true;
+        int cols = expected[0].length;
+        return IntStream.range(0, expected.length).parallel()
+            .mapToObj(i -> {
+                MatrixComparison row = new MatrixComparison();
+                double[] rowE = expected[i];
+                double[] rowA = actual[i];
+                for (int j = 0; j < cols; j++) {
+                    row.accumulate(i, j, rowE[j], rowA[j]);
+                }
+                return row;
+            })
+            .reduce(new MatrixComparison(), MatrixComparison::merge);
+    }
+    
+    /**
+     * Checks that a result buffer has the shape of matrixA * matrixB and does not alias either input
+     * 
+     * @param matrixA First matrix
+     * @param matrixB Second matrix
+     * @param result Buffer that will receive the product
+     * @throws IllegalArgumentException if the buffer has the wrong shape or is one of the inputs
+     */
+    public static void checkResultBuffer(double[][] matrixA, double[][] matrixB, double[][] result) {
+        if (result.length != matrixA.length || result[0].length != matrixB[0].length) {
+            throw new IllegalArgumentException(
+                "Result buffer must be " + matrixA.length + "x" + matrixB[0].length +
+                ", got " + result.length + "x" + result[0].length
+            );
+        }
+        if (result == matrixA || result == matrixB) {
+            throw new IllegalArgumentException("Result buffer must not be one of the input matrices");
+        }
     }
     
     /**
@@ -81,16 +263,34 @@ public class MatrixUtils {
     }
     
     /**
-     * Verifies if a matrix multiplication result is correct by comparing with sequential implementation
+     * Verifies if a matrix multiplication result is correct using Freivalds' algorithm.
+     * Runs in O(k * n^2) instead of recomputing the product; see FreivaldsVerifier.
+     * Every result within tolerance is accepted, but an isolated wrong entry is only caught once
+     * its error exceeds about cols / 2 times the tolerance; use verifyMatrixMultiplicationExact
+     * for a strict element-wise check.
      * 
      * @param matrixA First input matrix
      * @param matrixB Second input matrix
      * @param result Result matrix to verify
      * @param tolerance Maximum allowed difference
-     * @return true if result is correct, false otherwise
+     * @return true if result is correct (with high probability), false otherwise
      */
     public static boolean verifyMatrixMultiplication(double[][] matrixA, double[][] matrixB, 
                                                     double[][] result, double tolerance) {
+        return new FreivaldsVerifier(tolerance).verify(matrixA, matrixB, result);
+    }
+    
+    /**
+     * Verifies if a matrix multiplication result is correct by comparing with sequential implementation
+     * 
+     * @param matrixA First input matrix
+     * @param matrixB Second input matrix
+     * @param result Result matrix to verify
+     * @param tolerance Maximum allowed difference
+     * @return true if result is correct, false otherwise
+     */
+    public static boolean verifyMatrixMultiplicationExact(double[][] matrixA, double[][] matrixB, 
+                                                         double[][] result, double tolerance) {
         // Calculate expected result using sequential algorithm
         SequentialMatrixMultiplier seqMultiplier = new SequentialMatrixMultiplier();
         double[][] expected = seqMultiplier.multiply(matrixA, matrixB);
@@ -5,6 +5,13 @@ import java.util.stream.IntStream;
 public class ParallelStreamMatrixMultiplier implements MatrixMultiplier {
     @Override
     public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        double[][] result = new double[matrixA.length][matrixB[0].length];
+        multiplyInto(matrixA, matrixB, result);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result) {
         int rowsA = matrixA.length;
         int colsA = matrixA[0].length;
         int rowsB = matrixB.length;
@@ -14,7 +21,7 @@ public class ParallelStreamMatrixMultiplier implements MatrixMultiplier {
             throw new IllegalArgumentException("Matrix dimensions incompatible for multiplication");
         }
 
-        double[][] result = new double[rowsA][colsB];
+        MatrixUtils.checkResultBuffer(matrixA, matrixB, result);
 
         IntStream.range(0, rowsA).parallel().forEach(i -> {
             for (int j = 0; j < colsB; j++) {
@@ -25,8 +32,6 @@ public class ParallelStreamMatrixMultiplier implements MatrixMultiplier {
                 result[i][j] = sum;
             }
         });
-
-        return result;
     }
 
     @Override
@@ -0,0 +1,443 @@
+/**
+ * ScalingBenchmark.java
+ * Strong/weak scaling sweeps with roofline analysis against locally measured machine limits
+ */
+package matrixmultiplication;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+public class ScalingBenchmark {
+    private static final long SEED = 42L;
+    private static final double TOLERANCE = 1e-6;
+    private static final int STREAM_ARRAY_LENGTH = 1 << 22; // 32 MB per array, larger than typical LLC
+    private static final int STREAM_REPETITIONS = 10;
+    private static final long PEAK_ITERATIONS = 50_000_000L;
+    private static final int PEAK_REPETITIONS = 5;
+    private static final int VECTOR_KERNEL_LENGTH = 512; // 4 KB per array, resident in L1
+
+    // Two-sided 95% Student's t critical values for 1..30 degrees of freedom
+    private static final double[] T_95 = {
+        12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+        2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+        2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+
+    private static final String[] CSV_HEADER = {
+        "Mode", "Implementation", "MatrixSize", "Threads", "Trials", "Mean(ms)", "StdDev(ms)", "CI95(ms)",
+        "GFLOPS", "Speedup", "Efficiency", "AI_Min", "AI_Stream", "AI_Model", "Attainable(GFLOPS)", "RooflineFraction",
+        "Bound", "Correct"
+    };
+
+    private static final Map<String, IntFunction<MatrixMultiplier>> IMPLEMENTATIONS = new LinkedHashMap<>();
+    static {
+        IMPLEMENTATIONS.put("Concurrent", ConcurrentMatrixMultiplier::new);
+        IMPLEMENTATIONS.put("ThreadPool", ThreadPoolMatrixMultiplier::new);
+        IMPLEMENTATIONS.put("ForkJoin", ForkJoinMatrixMultiplier::new);
+        IMPLEMENTATIONS.put("BlockedParallel", threads -> new BlockedParallelMatrixMultiplier(threads, 64));
+        IMPLEMENTATIONS.put("TileScheduler", threads -> new TileSchedulerMatrixMultiplier(threads, 64));
+    }
+
+    // Output tile edge of implementations that reuse a strip of A and B per tile; the rest stream B per row
+    private static final Map<String, Integer> REUSE_TILES = new HashMap<>();
+    static {
+        REUSE_TILES.put("BlockedParallel", 64);
+        REUSE_TILES.put("TileScheduler", 64);
+    }
+
+    /**
+     * Usage: ScalingBenchmark [--size N] [--weak-base N] [--trials T] [--max-threads P] [--cache-mb MB]
+     *                         [--out PREFIX] [--baseline FILE.csv] [--threshold FRACTION]
+     */
+    public static void main(String[] args) throws IOException {
+        int size = 1000;
+        int weakBase = 500;
+        int trials = 5;
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        String out = "matrix_scaling_results";
+        String baselineFile = null;
+        double threshold = 0.10;
+        int cacheMb = 32; // Assumed last-level cache size for the traffic models
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--size": size = Integer.parseInt(args[++i]); break;
+                case "--weak-base": weakBase = Integer.parseInt(args[++i]); break;
+                case "--trials": trials = Integer.parseInt(args[++i]); break;
+                case "--max-threads": maxThreads = Integer.parseInt(args[++i]); break;
+                case "--out": out = args[++i]; break;
+                case "--baseline": baselineFile = args[++i]; break;
+                case "--threshold": threshold = Double.parseDouble(args[++i]); break;
+                case "--cache-mb": cacheMb = Integer.parseInt(args[++i]); break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (trials < 2) {
+            throw new IllegalArgumentException("At least 2 trials are needed for confidence intervals");
+        }
+
+        System.out.println("Java: " + System.getProperty("java.version") + ", Cores: " + Runtime.getRuntime().availableProcessors() + ", Seed: " + SEED);
+        System.out.println("==== Machine Profile ====");
+        MachineProfile machine = MachineProfile.measure(cacheMb * 1024L * 1024L);
+        System.out.println(machine);
+
+        List<ScalingResult> results = new ArrayList<>();
+        int[] threadCounts = threadCounts(maxThreads);
+
+        System.out.println("\n==== Strong Scaling: " + size + " x " + size + " ====");
+        double[][] matrixA = MatrixUtils.generateRandomMatrix(size, size, SEED);
+        double[][] matrixB = MatrixUtils.generateRandomMatrix(size, size, SEED + 1);
+        for (Map.Entry<String, IntFunction<MatrixMultiplier>> impl : IMPLEMENTATIONS.entrySet()) {
+            ScalingResult single = null;
+            for (int threads : threadCounts) {
+                ScalingResult result = runTrials("strong", impl.getKey(), impl.getValue().apply(threads),
+                        matrixA, matrixB, threads, trials, machine);
+                if (single == null) {
+                    single = result;
+                }
+                result.speedup = single.mean / result.mean;
+                result.efficiency = result.speedup / threads;
+                results.add(result);
+                System.out.println(result);
+            }
+        }
+
+        System.out.println("\n==== Weak Scaling: " + weakBase + " x " + weakBase + " per thread ====");
+        for (Map.Entry<String, IntFunction<MatrixMultiplier>> impl : IMPLEMENTATIONS.entrySet()) {
+            ScalingResult single = null;
+            for (int threads : threadCounts) {
+                // Keep n^3 / threads constant so every thread does the same amount of work
+                int n = (int) Math.round(weakBase * Math.cbrt(threads));
+                double[][] a = MatrixUtils.generateRandomMatrix(n, n, SEED);
+                double[][] b = MatrixUtils.generateRandomMatrix(n, n, SEED + 1);
+                ScalingResult result = runTrials("weak", impl.getKey(), impl.getValue().apply(threads),
+                        a, b, threads, trials, machine);
+                if (single == null) {
+                    single = result;
+                }
+                // Normalise by per-thread work, which differs slightly from the base due to rounding n
+                double workRatio = (double) n * n * n / ((double) single.size * single.size * single.size * threads);
+                result.efficiency = single.mean * workRatio / result.mean;
+                result.speedup = result.efficiency * threads;
+                results.add(result);
+                System.out.println(result);
+            }
+        }
+
+        writeCsv(out + ".csv", results);
+        writeJson(out + ".json", machine, results);
+        System.out.println("\nResults written to " + out + ".csv and " + out + ".json");
+
+        if (baselineFile != null) {
+            int regressions = compareWithBaseline(baselineFile, results, threshold);
+            if (regressions > 0) {
+                System.exit(1);
+            }
+        }
+    }
+
+    private static int[] threadCounts(int maxThreads) {
+        List<Integer> counts = new ArrayList<>();
+        for (int t = 1; t < maxThreads; t *= 2) {
+            counts.add(t);
+        }
+        counts.add(maxThreads);
+        return counts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static ScalingResult runTrials(String mode, String name, MatrixMultiplier multiplier, double[][] A, double[][] B,
+                                           int threads, int trials, MachineProfile machine) {
+        // Warmup run for JVM optimization
+        double[][] warmup = multiplier.multiply(A, B);
+        boolean correct = new FreivaldsVerifier(FreivaldsVerifier.DEFAULT_ROUNDS, TOLERANCE, SEED).verify(A, B, warmup);
+
+        double[] times = new double[trials];
+        for (int t = 0; t < trials; t++) {
+            System.gc();
+            long start = System.nanoTime();
+            multiplier.multiply(A, B);
+            long end = System.nanoTime();
+            times[t] = (end - start) / 1e6;
+        }
+        return new ScalingResult(mode, name, A.length, threads, times, correct, machine);
+    }
+
+    /**
+     * Two-sided 95% confidence interval half-width for the mean of the samples
+     */
+    private static double confidenceInterval(double stdDev, int n) {
+        double t = n - 1 <= T_95.length ? T_95[n - 2] : 1.96;
+        return t * stdDev / Math.sqrt(n);
+    }
+
+    private static void writeCsv(String file, List<ScalingResult> results) throws IOException {
+        try (PrintWriter pw = new PrintWriter(file)) {
+            pw.println(String.join(",", CSV_HEADER));
+            for (ScalingResult result : results) {
+                pw.println(String.join(",", result.toRow()));
+            }
+        }
+    }
+
+    private static void writeJson(String file, MachineProfile machine, List<ScalingResult> results) throws IOException {
+        try (PrintWriter pw = new PrintWriter(file)) {
+            pw.println("{");
+            pw.printf(Locale.ROOT, "  \"machine\": {\"cores\": %d, \"bandwidthGBs\": %.3f, \"peakGflops\": %.3f, \"cacheBytes\": %d},%n",
+                    machine.cores, machine.bandwidthGBs, machine.peakGflops, machine.cacheBytes);
+            pw.println("  \"results\": [");
+            for (int i = 0; i < results.size(); i++) {
+                String[] row = results.get(i).toRow();
+                StringBuilder sb = new StringBuilder("    {");
+                for (int c = 0; c < CSV_HEADER.length; c++) {
+                    if (c > 0) {
+                        sb.append(", ");
+                    }
+                    sb.append('"').append(CSV_HEADER[c]).append("\": ");
+                    boolean numeric = c >= 3 && c <= 15;
+                    sb.append(numeric ? row[c] : "\"" + row[c] + "\"");
+                }
+                sb.append(i < results.size() - 1 ? "}," : "}");
+                pw.println(sb);
+            }
+            pw.println("  ]");
+            pw.println("}");
+        }
+    }
+
+    /**
+     * Compares mean times with a CSV previously written by this benchmark.
+     * A result regresses when it is slower than the baseline by more than the threshold
+     * and the two 95% confidence intervals do not overlap.
+     *
+     * @return Number of regressions found
+     */
+    private static int compareWithBaseline(String file, List<ScalingResult> results, double threshold) throws IOException {
+        Map<String, double[]> baseline = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line = reader.readLine(); // header
+            while ((line = reader.readLine()) != null) {
+                String[] cols = line.split(",");
+                if (cols.length < CSV_HEADER.length) {
+                    continue;
+                }
+                String key = cols[0] + "/" + cols[1] + "/" + cols[2] + "/" + cols[3];
+                baseline.put(key, new double[]{Double.parseDouble(cols[5]), Double.parseDouble(cols[7])});
+            }
+        }
+
+        System.out.println("\n==== Regression Check vs " + file + " (threshold " + String.format("%.0f%%", threshold * 100) + ") ====");
+        int regressions = 0;
+        for (ScalingResult result : results) {
+            double[] base = baseline.get(result.key());
+            if (base == null) {
+                System.out.printf("%-45s | no baseline%n", result.key());
+                continue;
+            }
+            double change = (result.mean - base[0]) / base[0];
+            boolean regressed = change > threshold && result.mean - result.ci95 > base[0] + base[1];
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-45s | Base: %8.2f ms | Now: %8.2f ms | Change: %+7.2f%% | %s%n",
+                    result.key(), base[0], result.mean, change * 100, regressed ? "REGRESSION" : "ok");
+        }
+        System.out.println(regressions + " regression(s) found");
+        return regressions;
+    }
+
+    /**
+     * Locally measured memory bandwidth and peak floating-point throughput
+     */
+    private static class MachineProfile {
+        int cores;
+        double bandwidthGBs;
+        double peakGflops;
+        long cacheBytes;
+
+        // Peak kernels write their final values here so the JIT cannot drop the loops
+        private static volatile double sink;
+
+        static MachineProfile measure(long cacheBytes) {
+            MachineProfile profile = new MachineProfile();
+            profile.cores = Runtime.getRuntime().availableProcessors();
+            profile.cacheBytes = cacheBytes;
+            profile.bandwidthGBs = measureBandwidth();
+            profile.peakGflops = measurePeakGflops(profile.cores);
+            return profile;
+        }
+
+        /**
+         * STREAM-style triad a = b + s * c over all cores; best of several repetitions
+         */
+        private static double measureBandwidth() {
+            double[] a = new double[STREAM_ARRAY_LENGTH];
+            double[] b = new double[STREAM_ARRAY_LENGTH];
+            double[] c = new double[STREAM_ARRAY_LENGTH];
+            Arrays.fill(b, 1.0);
+            Arrays.fill(c, 2.0);
+            int chunk = 1 << 16;
+            int chunks = STREAM_ARRAY_LENGTH / chunk;
+            double best = Double.MAX_VALUE;
+            for (int rep = 0; rep < STREAM_REPETITIONS; rep++) {
+                long start = System.nanoTime();
+                IntStream.range(0, chunks).parallel().forEach(ch -> {
+                    int end = (ch + 1) * chunk;
+                    for (int i = ch * chunk; i < end; i++) {
+                        a[i] = b[i] + 3.0 * c[i];
+                    }
+                });
+                best = Math.min(best, (System.nanoTime() - start) / 1e9);
+            }
+            return 3.0 * Double.BYTES * STREAM_ARRAY_LENGTH / best / 1e9;
+        }
+
+        /**
+         * Peak reachable from plain Java loops like the ones in this package: the better of
+         * independent scalar multiply-add chains and an L1-resident y = y * m + x loop that the
+         * JIT can vectorize, as it does the i-k-j inner loops of the tiled kernels.
+         */
+        private static double measurePeakGflops(int cores) {
+            return Math.max(measureScalarPeakGflops(cores), measureVectorPeakGflops(cores));
+        }
+
+        private static double measureVectorPeakGflops(int cores) {
+            long sweeps = PEAK_ITERATIONS / VECTOR_KERNEL_LENGTH * 8;
+            double best = Double.MAX_VALUE;
+            for (int rep = 0; rep < PEAK_REPETITIONS; rep++) {
+                long start = System.nanoTime();
+                IntStream.range(0, cores).parallel().forEach(t -> {
+                    double[] x = new double[VECTOR_KERNEL_LENGTH];
+                    double[] y = new double[VECTOR_KERNEL_LENGTH];
+                    Arrays.fill(x, 1e-7 * (t + 1));
+                    final double m = 0.999999;
+                    for (long s = 0; s < sweeps; s++) {
+                        for (int j = 0; j < VECTOR_KERNEL_LENGTH; j++) {
+                            y[j] = y[j] * m + x[j];
+                        }
+                    }
+                    sink = y[t % VECTOR_KERNEL_LENGTH];
+                });
+                best = Math.min(best, (System.nanoTime() - start) / 1e9);
+            }
+            return 2.0 * VECTOR_KERNEL_LENGTH * sweeps * cores / best / 1e9;
+        }
+
+        private static double measureScalarPeakGflops(int cores) {
+            double best = Double.MAX_VALUE;
+            for (int rep = 0; rep < PEAK_REPETITIONS; rep++) {
+                long start = System.nanoTime();
+                IntStream.range(0, cores).parallel().forEach(t -> {
+                    double a0 = t, a1 = t + 1, a2 = t + 2, a3 = t + 3, a4 = t + 4, a5 = t + 5, a6 = t + 6, a7 = t + 7;
+                    final double m = 0.999999, c = 1e-7;
+                    for (long i = 0; i < PEAK_ITERATIONS; i++) {
+                        a0 = a0 * m + c; a1 = a1 * m + c; a2 = a2 * m + c; a3 = a3 * m + c;
+                        a4 = a4 * m + c; a5 = a5 * m + c; a6 = a6 * m + c; a7 = a7 * m + c;
+                    }
+                    sink = a0 + a1 + a2 + a3 + a4 + a5 + a6 + a7;
+                });
+                best = Math.min(best, (System.nanoTime() - start) / 1e9);
+            }
+            return 2.0 * 8 * PEAK_ITERATIONS * cores / best / 1e9;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Memory bandwidth: %.2f GB/s | Peak: %.2f GFLOPS | Ridge point: %.2f FLOP/byte",
+                    bandwidthGBs, peakGflops, peakGflops / bandwidthGBs);
+        }
+    }
+
+    private static class ScalingResult {
+        String mode;
+        String name;
+        int size;
+        int threads;
+        int trials;
+        double mean;
+        double stdDev;
+        double ci95;
+        double gflops;
+        double speedup;
+        double efficiency;
+        double aiMin;
+        double aiStream;
+        double aiModel;
+        double attainable;
+        double rooflineFraction;
+        String bound;
+        boolean correct;
+
+        ScalingResult(String mode, String name, int size, int threads, double[] times, boolean correct, MachineProfile machine) {
+            this.mode = mode;
+            this.name = name;
+            this.size = size;
+            this.threads = threads;
+            this.trials = times.length;
+            this.correct = correct;
+            this.mean = Arrays.stream(times).average().orElse(0);
+            double var = 0;
+            for (double t : times) {
+                var += (t - mean) * (t - mean);
+            }
+            this.stdDev = Math.sqrt(var / (times.length - 1));
+            this.ci95 = confidenceInterval(stdDev, times.length);
+
+            double n = size;
+            double flops = 2.0 * n * n * n;
+            this.gflops = flops / (mean / 1000.0) / 1e9;
+            // Compulsory traffic: read A and B once, write C once
+            this.aiMin = flops / (3.0 * n * n * Double.BYTES);
+            // No reuse at all: a column of B is re-streamed for every output element (for information)
+            this.aiStream = flops / ((n * n * n + 2.0 * n * n) * Double.BYTES);
+            this.aiModel = flops / modelTrafficBytes(name, n, machine.cacheBytes);
+            double threadPeak = machine.peakGflops * Math.min(threads, machine.cores) / machine.cores;
+            this.attainable = Math.min(threadPeak, aiModel * machine.bandwidthGBs);
+            this.rooflineFraction = gflops / attainable;
+            this.bound = aiModel * machine.bandwidthGBs < threadPeak ? "memory" : "compute";
+        }
+
+        /**
+         * DRAM traffic of one product under the implementation's reuse pattern. Row-streaming
+         * kernels reuse B across rows only if all of B fits in cache; tiled kernels reuse a
+         * tile-wide strip of A and B, moving 2n^3/T + n^2 elements when the strip does not fit.
+         * Whenever the reused working set fits in cache, traffic is the compulsory 3n^2.
+         */
+        private static double modelTrafficBytes(String name, double n, long cacheBytes) {
+            double compulsory = 3.0 * n * n * Double.BYTES;
+            Integer tile = REUSE_TILES.get(name);
+            double footprint;
+            double streamed;
+            if (tile == null) {
+                footprint = n * n * Double.BYTES;
+                streamed = (n * n * n + 2.0 * n * n) * Double.BYTES;
+            } else {
+                footprint = 2.0 * tile * n * Double.BYTES;
+                streamed = (2.0 * n * n * n / tile + n * n) * Double.BYTES;
+            }
+            return footprint <= cacheBytes ? compulsory : Math.max(compulsory, streamed);
+        }
+
+        String key() {
+            return mode + "/" + name + "/" + size + "x" + size + "/" + threads;
+        }
+
+        String[] toRow() {
+            return new String[]{mode, name, size + "x" + size, String.valueOf(threads), String.valueOf(trials),
+                    fmt(mean), fmt(stdDev), fmt(ci95), fmt(gflops), fmt(speedup), fmt(efficiency),
+                    fmt(aiMin), fmt(aiStream), fmt(aiModel), fmt(attainable), fmt(rooflineFraction), bound, correct ? "YES" : "NO"};
+        }
+
+        private static String fmt(double value) {
+            return String.format(Locale.ROOT, "%.4f", value);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-6s | %-16s | Size: %6s | Threads: %3d | Time: %8.2f +/- %6.2f ms | GFLOPS: %7.3f | Speedup: %6.2f | Eff: %5.1f%% | Roofline: %5.1f%% (%s) | Correct: %s",
+                    mode, name, size + "x" + size, threads, mean, ci95, gflops, speedup, efficiency * 100,
+                    rooflineFraction * 100, bound, correct ? "YES" : "NO");
+        }
+    }
+}
@@ -16,6 +16,13 @@ public class SequentialMatrixMultiplier implements MatrixMultiplier {
      */
     @Override
     public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        double[][] result = new double[matrixA.length][matrixB[0].length];
+        multiplyInto(matrixA, matrixB, result);
+        return result;
+    }
+    
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result) {
         int rowsA = matrixA.length;
         int colsA = matrixA[0].length;
         int rowsB = matrixB.length;
@@ -29,8 +36,8 @@ public class SequentialMatrixMultiplier implements MatrixMultiplier {
             );
         }
         
-        // Initialize result matrix
-        double[][] result = new double[rowsA][colsB];
+        // Check result buffer
+        MatrixUtils.checkResultBuffer(matrixA, matrixB, result);
         
         // Perform the multiplication
         for (int i = 0; i < rowsA; i++) {
@@ -42,8 +49,6 @@ public class SequentialMatrixMultiplier implements MatrixMultiplier {
                 result[i][j] = sum;
             }
         }
-        
-        return result;
     }
     
     @Override
@@ -0,0 +1,275 @@
+/**
+ * StructuredMatrixMultiplier.java
+ * Routes multiplications to diagonal, banded or block-sparse kernels, falling back to a dense engine.
+ * The structured kernels skip structural zeros, which changes IEEE results when the other operand
+ * holds NaN or infinity (0 * Inf is NaN), so detected non-finite operands always take the dense path.
+ */
+package matrixmultiplication;
+
+import java.util.stream.IntStream;
+
+public class StructuredMatrixMultiplier implements MatrixMultiplier {
+
+    private MatrixMultiplier denseEngine;
+    private int blockSize;
+    private volatile String lastRoute = "none";
+
+    /**
+     * Constructor with specified dense fallback engine and block size
+     *
+     * @param denseEngine Engine used when neither operand has exploitable structure
+     * @param blockSize Block edge length for structure detection and the block-sparse kernel
+     */
+    public StructuredMatrixMultiplier(MatrixMultiplier denseEngine, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        this.denseEngine = denseEngine;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Default constructor uses the tile scheduler as dense engine and 64x64 blocks
+     */
+    public StructuredMatrixMultiplier() {
+        this(new TileSchedulerMatrixMultiplier(), 64);
+    }
+
+    /**
+     * Multiplies two matrices after detecting their structure
+     *
+     * @param matrixA First matrix
+     * @param matrixB Second matrix
+     * @return Result of multiplication
+     * @throws IllegalArgumentException if matrices cannot be multiplied
+     */
+    @Override
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        checkDimensions(matrixA, matrixB);
+        MatrixStructure structureA = MatrixStructure.detect(matrixA, blockSize);
+        MatrixStructure structureB = MatrixStructure.detect(matrixB, blockSize);
+        if (!structureA.isFinite() || !structureB.isFinite()) {
+            lastRoute = "dense";
+            return denseEngine.multiply(matrixA, matrixB);
+        }
+        return multiply(matrixA, structureA, matrixB, structureB);
+    }
+
+    /**
+     * Multiplies two matrices using caller-supplied structure tags. Tags are trusted, not
+     * verified: entries outside the tagged structure are ignored, and structural zeros are
+     * treated as exact zeros even against NaN or infinite entries of the other operand.
+     *
+     * @param matrixA First matrix
+     * @param structureA Structure of the first matrix
+     * @param matrixB Second matrix
+     * @param structureB Structure of the second matrix
+     * @return Result of multiplication
+     * @throws IllegalArgumentException if matrices cannot be multiplied
+     */
+    public double[][] multiply(double[][] matrixA, MatrixStructure structureA,
+                               double[][] matrixB, MatrixStructure structureB) {
+        checkDimensions(matrixA, matrixB);
+        MatrixStructure.Type typeA = structureA.getType();
+        MatrixStructure.Type typeB = structureB.getType();
+
+        if (typeA == MatrixStructure.Type.DIAGONAL) {
+            lastRoute = "diagonal-left";
+            return scaleRows(matrixA, matrixB);
+        }
+        if (typeB == MatrixStructure.Type.DIAGONAL) {
+            lastRoute = "diagonal-right";
+            return scaleColumns(matrixA, matrixB);
+        }
+        if (typeA == MatrixStructure.Type.BANDED || typeB == MatrixStructure.Type.BANDED) {
+            lastRoute = "banded";
+            return multiplyBanded(matrixA, structureA, matrixB, structureB);
+        }
+        if (typeA == MatrixStructure.Type.BLOCK_SPARSE || typeB == MatrixStructure.Type.BLOCK_SPARSE) {
+            lastRoute = "block-sparse";
+            int size = typeA == MatrixStructure.Type.BLOCK_SPARSE ? structureA.getBlockSize() : structureB.getBlockSize();
+            return multiplyBlockSparse(matrixA, matrixB, size);
+        }
+        lastRoute = "dense";
+        return denseEngine.multiply(matrixA, matrixB);
+    }
+
+    private static void checkDimensions(double[][] matrixA, double[][] matrixB) {
+        int rowsA = matrixA.length;
+        int colsA = matrixA[0].length;
+        int rowsB = matrixB.length;
+        int colsB = matrixB[0].length;
+
+        if (colsA != rowsB) {
+            throw new IllegalArgumentException(
+                "Matrix dimensions incompatible for multiplication: " +
+                rowsA + "x" + colsA + " and " + rowsB + "x" + colsB
+            );
+        }
+    }
+
+    /**
+     * Diagonal A: C[i][j] = A[i][i] * B[i][j], O(n^2)
+     */
+    private static double[][] scaleRows(double[][] matrixA, double[][] matrixB) {
+        int rowsA = matrixA.length;
+        int colsB = matrixB[0].length;
+        int diagonal = Math.min(rowsA, matrixA[0].length);
+        double[][] result = new double[rowsA][colsB];
+
+        IntStream.range(0, diagonal).parallel().forEach(i -> {
+            double scale = matrixA[i][i];
+            double[] rowB = matrixB[i];
+            double[] rowC = result[i];
+            for (int j = 0; j < colsB; j++) {
+                rowC[j] = scale * rowB[j];
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Diagonal B: C[i][j] = A[i][j] * B[j][j], O(n^2)
+     */
+    private static double[][] scaleColumns(double[][] matrixA, double[][] matrixB) {
+        int rowsA = matrixA.length;
+        int colsB = matrixB[0].length;
+        int diagonal = Math.min(matrixB.length, colsB);
+        double[] scale = new double[diagonal];
+        for (int j = 0; j < diagonal; j++) {
+            scale[j] = matrixB[j][j];
+        }
+        double[][] result = new double[rowsA][colsB];
+
+        IntStream.range(0, rowsA).parallel().forEach(i -> {
+            double[] rowA = matrixA[i];
+            double[] rowC = result[i];
+            for (int j = 0; j < diagonal; j++) {
+                rowC[j] = rowA[j] * scale[j];
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * i-k-j product that visits only the band of each banded operand: O(n^2 * bandwidth)
+     * when one side is banded and O(n * bandwidthA * bandwidthB) when both are
+     */
+    private static double[][] multiplyBanded(double[][] matrixA, MatrixStructure structureA,
+                                             double[][] matrixB, MatrixStructure structureB) {
+        int rowsA = matrixA.length;
+        int colsA = matrixA[0].length;
+        int colsB = matrixB[0].length;
+        boolean bandedA = structureA.getType() == MatrixStructure.Type.BANDED;
+        boolean bandedB = structureB.getType() == MatrixStructure.Type.BANDED;
+        double[][] result = new double[rowsA][colsB];
+
+        IntStream.range(0, rowsA).parallel().forEach(i -> {
+            double[] rowA = matrixA[i];
+            double[] rowC = result[i];
+            int kFrom = bandedA ? Math.max(0, i - structureA.getLowerBandwidth()) : 0;
+            int kTo = bandedA ? Math.min(colsA - 1, i + structureA.getUpperBandwidth()) : colsA - 1;
+            for (int k = kFrom; k <= kTo; k++) {
+                double aik = rowA[k];
+                if (aik == 0) {
+                    continue;
+                }
+                double[] rowB = matrixB[k];
+                int jFrom = bandedB ? Math.max(0, k - structureB.getLowerBandwidth()) : 0;
+                int jTo = bandedB ? Math.min(colsB - 1, k + structureB.getUpperBandwidth()) : colsB - 1;
+                for (int j = jFrom; j <= jTo; j++) {
+                    rowC[j] += aik * rowB[j];
+                }
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Blocked product that skips every block pair where either operand block is all zeros
+     */
+    private static double[][] multiplyBlockSparse(double[][] matrixA, double[][] matrixB, int blockSize) {
+        int rowsA = matrixA.length;
+        int colsA = matrixA[0].length;
+        int colsB = matrixB[0].length;
+        int rowBlocks = (rowsA + blockSize - 1) / blockSize;
+        int innerBlocks = (colsA + blockSize - 1) / blockSize;
+        int colBlocks = (colsB + blockSize - 1) / blockSize;
+        boolean[][] maskA = blockMask(matrixA, blockSize);
+        boolean[][] maskB = blockMask(matrixB, blockSize);
+        double[][] result = new double[rowsA][colsB];
+
+        // Row blocks of the result are disjoint, so each task writes its own rows
+        IntStream.range(0, rowBlocks).parallel().forEach(ib -> {
+            int iEnd = Math.min(rowsA, (ib + 1) * blockSize);
+            for (int kb = 0; kb < innerBlocks; kb++) {
+                if (!maskA[ib][kb]) {
+                    continue;
+                }
+                int kEnd = Math.min(colsA, (kb + 1) * blockSize);
+                for (int jb = 0; jb < colBlocks; jb++) {
+                    if (!maskB[kb][jb]) {
+                        continue;
+                    }
+                    int jStart = jb * blockSize;
+                    int jEnd = Math.min(colsB, jStart + blockSize);
+                    for (int i = ib * blockSize; i < iEnd; i++) {
+                        double[] rowA = matrixA[i];
+                        double[] rowC = result[i];
+                        for (int k = kb * blockSize; k < kEnd; k++) {
+                            double aik = rowA[k];
+                            double[] rowB = matrixB[k];
+                            for (int j = jStart; j < jEnd; j++) {
+                                rowC[j] += aik * rowB[j];
+                            }
+                        }
+                    }
+                }
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Marks which blockSize x blockSize blocks of the matrix contain a non-zero entry
+     */
+    private static boolean[][] blockMask(double[][] matrix, int blockSize) {
+        int rows = matrix.length;
+        int cols = matrix[0].length;
+        int rowBlocks = (rows + blockSize - 1) / blockSize;
+        int colBlocks = (cols + blockSize - 1) / blockSize;
+        boolean[][] mask = new boolean[rowBlocks][colBlocks];
+
+        IntStream.range(0, rowBlocks).parallel().forEach(rb -> {
+            int endRow = Math.min(rows, (rb + 1) * blockSize);
+            for (int i = rb * blockSize; i < endRow; i++) {
+                double[] row = matrix[i];
+                for (int j = 0; j < cols; j++) {
+                    if (row[j] != 0) {
+                        mask[rb][j / blockSize] = true;
+                    }
+                }
+            }
+        });
+
+        return mask;
+    }
+
+    /**
+     * Returns which kernel handled the most recent multiply call
+     *
+     * @return One of "diagonal-left", "diagonal-right", "banded", "block-sparse", "dense" or "none"
+     */
+    public String getLastRoute() {
+        return lastRoute;
+    }
+
+    @Override
+    public String getName() {
+        return "Structured (blockSize=" + blockSize + " dense=" + denseEngine.getName() + ")";
+    }
+}
@@ -13,6 +13,13 @@ public class ThreadPoolMatrixMultiplier implements MatrixMultiplier {
 
     @Override
     public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        double[][] result = new double[matrixA.length][matrixB[0].length];
+        multiplyInto(matrixA, matrixB, result);
+        return result;
+    }
+
+    @Override
+    public void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result) {
         int rowsA = matrixA.length;
         int colsA = matrixA[0].length;
         int rowsB = matrixB.length;
@@ -22,7 +29,7 @@ public class ThreadPoolMatrixMultiplier implements MatrixMultiplier {
             throw new IllegalArgumentException("Matrix dimensions incompatible for multiplication");
         }
 
-        double[][] result = new double[rowsA][colsB];
+        MatrixUtils.checkResultBuffer(matrixA, matrixB, result);
 
         ExecutorService executor = Executors.newFixedThreadPool(numThreads);
         CountDownLatch latch = new CountDownLatch(rowsA);
@@ -49,8 +56,6 @@ public class ThreadPoolMatrixMultiplier implements MatrixMultiplier {
         } finally {
             executor.shutdown();
         }
-
-        return result;
     }
 
     @Override
@@ -0,0 +1,328 @@
+/**
+ * TileSchedulerMatrixMultiplier.java
+ * Implements matrix multiplication with dynamic claiming of 2D output tiles in Morton order
+ */
+package matrixmultiplication;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TileSchedulerMatrixMultiplier implements MatrixMultiplier {
+
+    private static final long WORKER_IDLE_MILLIS = 1000; // Idle workers exit and are restarted on demand
+
+    private int numThreads;
+    private int tileSize;
+
+    // Workers 1..numThreads-1 persist between calls; the calling thread acts as worker 0
+    private final Object lock = new Object();
+    private final Thread[] workers;
+    private long generation; // guarded by lock, bumped once per product
+    private int pending;     // guarded by lock, workers still running the current product
+
+    // Current product, published to workers by the generation bump under lock
+    private double[][] matrixA;
+    private double[][] matrixB;
+    private double[][] result;
+    private int[] tiles = new int[0]; // Morton order cached for the last tile grid shape
+    private int tileRows = -1;
+    private int tileCols = -1;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final int[] tileCounts;
+    private final int[] lastTileCounts;
+
+    /**
+     * Constructor with specified number of threads and tile edge length
+     *
+     * @param numThreads Number of worker threads, including the calling thread
+     * @param tileSize Rows and columns of the result covered by one tile
+     */
+    public TileSchedulerMatrixMultiplier(int numThreads, int tileSize) {
+        if (numThreads < 1 || tileSize < 1) {
+            throw new IllegalArgumentException(
+                "Thread count and tile size must be positive: " + numThreads + ", " + tileSize);
+        }
+        this.numThreads = numThreads;
+        this.tileSize = tileSize;
+        this.workers = new Thread[numThreads];
+        this.tileCounts = new int[numThreads];
+        this.lastTileCounts = new int[numThreads];
+    }
+
+    /**
+     * Default constructor uses available processors count and 64x64 tiles
+     */
+    public TileSchedulerMatrixMultiplier() {
+        this(Runtime.getRuntime().availableProcessors(), 64);
+    }
+
+    /**
+     * Multiplies two matrices; workers repeatedly claim a run of tiles from a shared atomic
+     * cursor, with run length shrinking as the remaining work shrinks (guided scheduling).
+     * If a worker fails, the others stop claiming tiles and the failure is rethrown here.
+     *
+     * @param matrixA First matrix
+     * @param matrixB Second matrix
+     * @return Result of multiplication
+     * @throws IllegalArgumentException if matrices cannot be multiplied
+     */
+    @Override
+    public double[][] multiply(double[][] matrixA, double[][] matrixB) {
+        double[][] result = new double[matrixA.length][matrixB[0].length];
+        multiplyInto(matrixA, matrixB, result);
+        return result;
+    }
+
+    /**
+     * Multiplies into a caller-supplied buffer. Repeated calls on the same tile grid allocate
+     * nothing: the tile order is cached and the worker threads are reused. Calls on one instance
+     * run one at a time.
+     */
+    @Override
+    public synchronized void multiplyInto(double[][] matrixA, double[][] matrixB, double[][] result) {
+        int rowsA = matrixA.length;
+        int colsA = matrixA[0].length;
+        int rowsB = matrixB.length;
+        int colsB = matrixB[0].length;
+
+        // Check if matrices can be multiplied
+        if (colsA != rowsB) {
+            throw new IllegalArgumentException(
+                "Matrix dimensions incompatible for multiplication: " + rowsA + "x" +
+                colsA + " and " + rowsB + "x" + colsB);
+        }
+
+        MatrixUtils.checkResultBuffer(matrixA, matrixB, result);
+
+        int newTileRows = (rowsA + tileSize - 1) / tileSize;
+        int newTileCols = (colsB + tileSize - 1) / tileSize;
+        if (newTileRows != tileRows || newTileCols != tileCols) {
+            tiles = mortonOrder(newTileRows, newTileCols);
+            tileRows = newTileRows;
+            tileCols = newTileCols;
+        }
+
+        this.matrixA = matrixA;
+        this.matrixB = matrixB;
+        this.result = result;
+        cursor.set(0);
+        failure.set(null);
+
+        synchronized (lock) {
+            for (int t = 1; t < numThreads; t++) {
+                if (workers[t] == null) {
+                    startWorker(t);
+                }
+            }
+            pending = numThreads - 1;
+            generation++;
+            lock.notifyAll();
+        }
+
+        runTiles(0);
+
+        // Wait for all workers; on interrupt, stop them and still wait so none
+        // keeps writing into the caller's buffer after we return
+        boolean interrupted = false;
+        synchronized (lock) {
+            while (pending > 0) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    failure.compareAndSet(null, e);
+                }
+            }
+        }
+        this.matrixA = null;
+        this.matrixB = null;
+        this.result = null;
+        System.arraycopy(tileCounts, 0, lastTileCounts, 0, numThreads);
+
+        Throwable cause = failure.get();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Tile scheduled matrix multiplication interrupted", cause);
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        if (cause != null) {
+            throw new RuntimeException("Tile scheduled matrix multiplication failed", cause);
+        }
+    }
+
+    /**
+     * Starts a daemon worker that waits for products; called with lock held, before the generation bump
+     */
+    private void startWorker(int workerId) {
+        long seen = generation;
+        Thread worker = new Thread(() -> workerLoop(workerId, seen), "tile-worker-" + workerId);
+        worker.setDaemon(true);
+        workers[workerId] = worker;
+        worker.start();
+    }
+
+    private void workerLoop(int workerId, long seen) {
+        while (true) {
+            synchronized (lock) {
+                // notifyAll also signals completed products, so wait against a deadline
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(WORKER_IDLE_MILLIS);
+                while (generation == seen) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        // Retire under the lock so the next product sees the empty slot and restarts it
+                        workers[workerId] = null;
+                        return;
+                    }
+                    try {
+                        TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                    } catch (InterruptedException e) {
+                        // Workers are private to this instance; treat as a wakeup
+                    }
+                }
+                seen = generation;
+            }
+
+            runTiles(workerId);
+
+            synchronized (lock) {
+                if (--pending == 0) {
+                    lock.notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Claims guided chunks of the current product until the tiles run out or a worker has failed
+     */
+    private void runTiles(int workerId) {
+        double[][] matrixA = this.matrixA;
+        double[][] matrixB = this.matrixB;
+        double[][] result = this.result;
+        int[] tiles = this.tiles;
+        int tileCols = this.tileCols;
+        int totalTiles = tiles.length;
+        int claimed = 0;
+        try {
+            while (failure.get() == null) {
+                // Guided chunk: a share of what is left, never less than one tile
+                int start;
+                int chunk;
+                do {
+                    start = cursor.get();
+                    if (start >= totalTiles) {
+                        return;
+                    }
+                    chunk = Math.max(1, (totalTiles - start) / (2 * numThreads));
+                } while (!cursor.compareAndSet(start, start + chunk));
+
+                int end = Math.min(start + chunk, totalTiles);
+                for (int n = start; n < end; n++) {
+                    int tileRow = tiles[n] / tileCols;
+                    int tileCol = tiles[n] % tileCols;
+                    multiplyTile(matrixA, matrixB, result, tileRow * tileSize, tileCol * tileSize);
+                }
+                claimed += end - start;
+            }
+        } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            tileCounts[workerId] = claimed;
+        }
+    }
+
+    /**
+     * Computes one tile with an i-k-j loop so rows of B and the result are read sequentially;
+     * the tile is cleared first because the result buffer may be reused
+     */
+    private void multiplyTile(double[][] matrixA, double[][] matrixB, double[][] result, int rowStart, int colStart) {
+        int rowEnd = Math.min(rowStart + tileSize, result.length);
+        int colEnd = Math.min(colStart + tileSize, result[0].length);
+        int colsA = matrixA[0].length;
+        for (int i = rowStart; i < rowEnd; i++) {
+            double[] rowA = matrixA[i];
+            double[] rowC = result[i];
+            Arrays.fill(rowC, colStart, colEnd, 0.0);
+            for (int k = 0; k < colsA; k++) {
+                double aik = rowA[k];
+                double[] rowB = matrixB[k];
+                for (int j = colStart; j < colEnd; j++) {
+                    rowC[j] += aik * rowB[j];
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns tile indices (row * tileCols + col) sorted by Z-order curve position, so tiles
+     * processed close together in time share rows of A and columns of B
+     */
+    static int[] mortonOrder(int tileRows, int tileCols) {
+        int total = tileRows * tileCols;
+        long[] keyed = new long[total];
+        for (int r = 0; r < tileRows; r++) {
+            for (int c = 0; c < tileCols; c++) {
+                int index = r * tileCols + c;
+                // Flip the sign bit so signed sorting follows unsigned Morton code order
+                keyed[index] = ((interleave(r, c) << 32) | index) ^ Long.MIN_VALUE;
+            }
+        }
+        Arrays.sort(keyed);
+        int[] order = new int[total];
+        for (int n = 0; n < total; n++) {
+            order[n] = (int) keyed[n];
+        }
+        return order;
+    }
+
+    /**
+     * Interleaves the low 16 bits of row and col into a 32-bit Morton code
+     */
+    private static long interleave(int row, int col) {
+        return spread(row) << 1 | spread(col);
+    }
+
+    private static long spread(int value) {
+        long x = value & 0xFFFF;
+        x = (x | (x << 8)) & 0x00FF00FFL;
+        x = (x | (x << 4)) & 0x0F0F0F0FL;
+        x = (x | (x << 2)) & 0x33333333L;
+        x = (x | (x << 1)) & 0x55555555L;
+        return x;
+    }
+
+    /**
+     * Returns how many tiles each worker computed in the most recent multiply call
+     *
+     * @return Tile count per worker, indexed by worker id
+     */
+    public synchronized int[] getLastTileCounts() {
+        return lastTileCounts.clone();
+    }
+
+    /**
+     * Returns the load imbalance of the most recent multiply call as max / mean tiles per worker
+     *
+     * @return 1.0 for a perfectly balanced run, larger values for worse balance
+     */
+    public synchronized double getLastImbalance() {
+        int[] counts = lastTileCounts;
+        int total = 0;
+        int max = 0;
+        for (int count : counts) {
+            total += count;
+            max = Math.max(max, count);
+        }
+        return total == 0 ? 1.0 : max / ((double) total / counts.length);
+    }
+
+    @Override
+    public String getName() {
+        return "TileScheduler (tileSize=" + tileSize + " threads=" + numThreads + ")";
+    }
+}